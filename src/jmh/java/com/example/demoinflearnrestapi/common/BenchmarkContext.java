@@ -0,0 +1,136 @@
+package com.example.demoinflearnrestapi.common;
+
+import com.example.demoinflearnrestapi.DemoInflearnRestApiApplication;
+import com.example.demoinflearnrestapi.accounts.Account;
+import com.example.demoinflearnrestapi.accounts.AccountRepository;
+import com.example.demoinflearnrestapi.configs.AppProperties;
+import com.example.demoinflearnrestapi.events.Event;
+import com.example.demoinflearnrestapi.events.EventRepository;
+import com.example.demoinflearnrestapi.events.EventStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.security.oauth2.common.util.Jackson2JsonParser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Boots the application against the in-memory H2 database of the "test" profile
+ * and seeds it with events, so benchmarks measure the same beans the API serves with.
+ */
+public class BenchmarkContext implements AutoCloseable {
+    private final ConfigurableApplicationContext context;
+    private final List<Integer> eventIds = new ArrayList<>();
+    private MockMvc mockMvc;
+
+    /**
+     * @param properties {@code key=value} pairs that override the profile's configuration
+     */
+    public BenchmarkContext(int eventCount, String... properties) {
+        this.context = new SpringApplicationBuilder(DemoInflearnRestApiApplication.class)
+                .profiles("test", "benchmark")
+                .run(Arrays.stream(properties).map(property -> "--" + property).toArray(String[]::new));
+        seed(eventCount);
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return this.context.getBean(type);
+    }
+
+    public List<Integer> getEventIds() {
+        return this.eventIds;
+    }
+
+    public Account getManager() {
+        return getBean(AccountRepository.class)
+                .findByEmail(getBean(AppProperties.class).getAdminEmail())
+                .orElseThrow();
+    }
+
+    public MockMvc getMockMvc() {
+        if (this.mockMvc == null) {
+            this.mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) this.context)
+                    .apply(springSecurity())
+                    .build();
+        }
+        return this.mockMvc;
+    }
+
+    public String getBearerToken() throws Exception {
+        AppProperties appProperties = getBean(AppProperties.class);
+        String responseBody = getMockMvc().perform(post("/oauth/token")
+                .with(httpBasic(appProperties.getClientId(), appProperties.getClientSecret()))
+                .param("username", appProperties.getAdminEmail())
+                .param("password", appProperties.getAdminPassword())
+                .param("grant_type", "password"))
+                .andReturn().getResponse().getContentAsString();
+        return "Bearer " + new Jackson2JsonParser().parseMap(responseBody).get("access_token");
+    }
+
+    /**
+     * The HAL-configured {@link ObjectMapper} Spring MVC uses to write {@code RepresentationModel}s.
+     */
+    public ObjectMapper getHalObjectMapper() {
+        for (HttpMessageConverter<?> converter : getBean(RequestMappingHandlerAdapter.class).getMessageConverters()) {
+            if (converter instanceof MappingJackson2HttpMessageConverter) {
+                ObjectMapper objectMapper = ((MappingJackson2HttpMessageConverter) converter)
+                        .getObjectMappersForType(RepresentationModel.class)
+                        .get(MediaTypes.HAL_JSON);
+                if (objectMapper != null) {
+                    return objectMapper;
+                }
+            }
+        }
+        throw new IllegalStateException("No HAL message converter registered");
+    }
+
+    public static Event newEvent(int i) {
+        Event event = Event.builder()
+                .name("event " + i)
+                .description("benchmark event")
+                .beginEnrollmentDateTime(LocalDateTime.of(2022, 10, 25, 0, 0))
+                .closeEnrollmentDateTime(LocalDateTime.of(2022, 10, 25, 23, 59))
+                .beginEventDateTime(LocalDateTime.of(2022, 10, 26, 14, 51))
+                .endEventDateTime(LocalDateTime.of(2022, 10, 26, 15, 0))
+                .basePrice(100)
+                .maxPrice(200)
+                .limitOfEnrollment(200)
+                .location("상도동 리치빈스")
+                .eventStatus(EventStatus.DRAFT)
+                .build();
+        event.update();
+        return event;
+    }
+
+    private void seed(int eventCount) {
+        EventRepository eventRepository = getBean(EventRepository.class);
+        Account manager = getManager();
+        List<Event> events = new ArrayList<>(eventCount);
+        for (int i = 0; i < eventCount; i++) {
+            Event event = newEvent(i);
+            event.setManager(manager);
+            events.add(event);
+        }
+        eventRepository.saveAll(events).forEach(e -> this.eventIds.add(e.getId()));
+    }
+
+    @Override
+    public void close() {
+        this.context.close();
+    }
+}
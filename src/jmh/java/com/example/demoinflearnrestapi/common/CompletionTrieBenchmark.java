@@ -0,0 +1,64 @@
+package com.example.demoinflearnrestapi.common;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Completing a one or two character prefix over many distinct locations: {@link CompletionTrie} walks
+ * the prefix and copies its kept list, a sorted map has to rank every key in the prefix range.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CompletionTrieBenchmark {
+
+    @Param("50000")
+    int locations;
+
+    @Param({"a", "ab"})
+    String prefix;
+
+    CompletionTrie trie;
+
+    TreeMap<String, Integer> counts;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        this.trie = new CompletionTrie(10);
+        this.counts = new TreeMap<>();
+        for (int i = 0; i < this.locations; i++) {
+            StringBuilder location = new StringBuilder();
+            for (int length = 4 + random.nextInt(12); location.length() < length; ) {
+                location.append((char) ('a' + random.nextInt(6)));
+            }
+            int uses = 1 + random.nextInt(20);
+            for (int use = 0; use < uses; use++) {
+                this.trie.add(location.toString(), location.toString());
+            }
+            this.counts.merge(location.toString(), uses, Integer::sum);
+        }
+    }
+
+    @Benchmark
+    public List<CompletionTrie.Completion> trie() {
+        return this.trie.complete(this.prefix, 10);
+    }
+
+    @Benchmark
+    public List<Map.Entry<String, Integer>> sortedMapScan() {
+        return this.counts.subMap(this.prefix, this.prefix + Character.MAX_VALUE).entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .limit(10)
+                .collect(Collectors.toList());
+    }
+}
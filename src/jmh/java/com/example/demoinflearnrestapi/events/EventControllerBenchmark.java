@@ -0,0 +1,109 @@
+package com.example.demoinflearnrestapi.events;
+
+import com.example.demoinflearnrestapi.common.BenchmarkContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * End-to-end cost of the event endpoints, from the security filter chain down to the HAL response body.
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark.args="EventControllerBenchmark -prof gc"}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventControllerBenchmark {
+
+    @Param("1000")
+    int eventCount;
+
+    @Param("20")
+    int pageSize;
+
+    BenchmarkContext context;
+    MockMvc mockMvc;
+    String bearerToken;
+    String eventJson;
+    List<Integer> eventIds;
+    int pageCount;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        this.context = new BenchmarkContext(this.eventCount);
+        this.mockMvc = this.context.getMockMvc();
+        this.bearerToken = this.context.getBearerToken();
+        this.eventIds = this.context.getEventIds();
+        this.pageCount = Math.max(1, this.eventCount / this.pageSize);
+
+        EventDto eventDto = EventDto.builder()
+                .name("Spring")
+                .description("REST API Development with Spring")
+                .beginEnrollmentDateTime(LocalDateTime.of(2022, 10, 25, 0, 0))
+                .closeEnrollmentDateTime(LocalDateTime.of(2022, 10, 25, 23, 59))
+                .beginEventDateTime(LocalDateTime.of(2022, 10, 26, 14, 51))
+                .endEventDateTime(LocalDateTime.of(2022, 10, 26, 15, 0))
+                .basePrice(100)
+                .maxPrice(200)
+                .limitOfEnrollment(200)
+                .location("상도동 리치빈스")
+                .build();
+        this.eventJson = this.context.getBean(ObjectMapper.class).writeValueAsString(eventDto);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+
+        int next(int bound) {
+            int value = this.next;
+            this.next = (value + 1) % bound;
+            return value;
+        }
+    }
+
+    @Benchmark
+    public MvcResult createEvent() throws Exception {
+        return this.mockMvc.perform(post("/api/events/")
+                .header(HttpHeaders.AUTHORIZATION, this.bearerToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaTypes.HAL_JSON)
+                .content(this.eventJson))
+                .andReturn();
+    }
+
+    @Benchmark
+    public MvcResult queryEvents(Cursor cursor) throws Exception {
+        return this.mockMvc.perform(get("/api/events")
+                .param("page", String.valueOf(cursor.next(this.pageCount)))
+                .param("size", String.valueOf(this.pageSize))
+                .param("sort", "name,DESC"))
+                .andReturn();
+    }
+
+    @Benchmark
+    public MvcResult getEvent(Cursor cursor) throws Exception {
+        Integer id = this.eventIds.get(cursor.next(this.eventIds.size()));
+        return this.mockMvc.perform(get("/api/events/{id}", id)
+                .header(HttpHeaders.AUTHORIZATION, this.bearerToken))
+                .andReturn();
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.demoinflearnrestapi.events;
+
+import com.example.demoinflearnrestapi.accounts.Account;
+import com.example.demoinflearnrestapi.common.BenchmarkContext;
+import com.example.demoinflearnrestapi.common.PooledSequenceGenerator;
+import org.h2.tools.Server;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserts of {@value #BATCH_SIZE} events in one transaction against an H2 server over loopback TCP, so
+ * every statement pays a real round trip. An allocation size of 1 costs one sequence call per row, like
+ * the plain {@code @GeneratedValue} ids did; larger blocks leave only the batched inserts.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventInsertBenchmark {
+
+    @Param({"1", "50"})
+    int allocationSize;
+
+    static final int BATCH_SIZE = 100;
+
+    Server server;
+    BenchmarkContext context;
+    EventRepository eventRepository;
+    Account manager;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        this.server = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+        String url = "jdbc:h2:tcp://localhost:" + this.server.getPort() + "/mem:insert-benchmark";
+        this.context = new BenchmarkContext(0,
+                "spring.datasource.url=" + url,
+                "spring.datasource.hikari.jdbc-url=" + url,
+                "spring.jpa.properties." + PooledSequenceGenerator.ALLOCATION_SIZE + "=" + this.allocationSize);
+        this.eventRepository = this.context.getBean(EventRepository.class);
+        this.manager = this.context.getManager();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.close();
+        this.server.stop();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<Event> insert() {
+        List<Event> events = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            Event event = BenchmarkContext.newEvent(i);
+            event.setManager(this.manager);
+            events.add(event);
+        }
+        return this.eventRepository.saveAll(events);
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.demoinflearnrestapi.events;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+
+/**
+ * Links of one page of events: a {@code linkTo} per event against {@link EventLinks}, which resolves
+ * the base once per request. Each invocation is a fresh request. Run with {@code -prof gc} to compare
+ * allocation per page.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventLinksBenchmark {
+
+    @Param("20")
+    int pageSize;
+
+    List<Event> events;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.events = new ArrayList<>(this.pageSize);
+        for (int i = 0; i < this.pageSize; i++) {
+            this.events.add(Event.builder().id(i + 1).name("event " + i).build());
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void startRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/events");
+        request.setServerName("localhost");
+        request.setServerPort(8080);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @TearDown(Level.Invocation)
+    public void endRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Benchmark
+    public List<EntityModel<Event>> linkToPerEvent() {
+        List<EntityModel<Event>> content = new ArrayList<>(this.events.size());
+        for (Event event : this.events) {
+            EntityModel<Event> model = EntityModel.of(event);
+            model.add(linkTo(EventController.class).slash(event.getId()).withSelfRel());
+            model.add(linkTo(EventController.class).slash(event.getId()).withRel("update-event"));
+            content.add(model);
+        }
+        return content;
+    }
+
+    @Benchmark
+    public List<EntityModel<Event>> cachedBase() {
+        List<EntityModel<Event>> content = new ArrayList<>(this.events.size());
+        for (Event event : this.events) {
+            EventResource model = new EventResource(event);
+            model.add(EventLinks.event(event, "update-event"));
+            content.add(model);
+        }
+        return content;
+    }
+}
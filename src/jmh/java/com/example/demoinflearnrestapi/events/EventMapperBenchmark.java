@@ -0,0 +1,69 @@
+package com.example.demoinflearnrestapi.events;
+
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link EventMapper} against the reflective {@link ModelMapper} it replaced, for both the create and
+ * the update path. Run with {@code -prof gc} to compare allocation per call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventMapperBenchmark {
+
+    ModelMapper modelMapper;
+    EventMapper eventMapper;
+    EventDto eventDto;
+    Event event;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.modelMapper = new ModelMapper();
+        this.eventMapper = new EventMapper();
+        this.eventDto = EventDto.builder()
+                .name("Spring")
+                .description("REST API Development with Spring")
+                .beginEnrollmentDateTime(LocalDateTime.of(2022, 10, 25, 0, 0))
+                .closeEnrollmentDateTime(LocalDateTime.of(2022, 10, 25, 23, 59))
+                .beginEventDateTime(LocalDateTime.of(2022, 10, 26, 14, 51))
+                .endEventDateTime(LocalDateTime.of(2022, 10, 26, 15, 0))
+                .basePrice(100)
+                .maxPrice(200)
+                .limitOfEnrollment(200)
+                .location("상도동 리치빈스")
+                .build();
+        this.event = this.eventMapper.toEntity(this.eventDto);
+    }
+
+    @Benchmark
+    public Event modelMapperCreate() {
+        Event event = this.modelMapper.map(this.eventDto, Event.class);
+        event.update();
+        return event;
+    }
+
+    @Benchmark
+    public Event eventMapperCreate() {
+        return this.eventMapper.toEntity(this.eventDto);
+    }
+
+    @Benchmark
+    public Event modelMapperUpdate() {
+        this.modelMapper.map(this.eventDto, this.event);
+        this.event.update();
+        return this.event;
+    }
+
+    @Benchmark
+    public Event eventMapperUpdate() {
+        this.eventMapper.update(this.eventDto, this.event);
+        return this.event;
+    }
+}
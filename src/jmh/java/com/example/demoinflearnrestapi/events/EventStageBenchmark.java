@@ -0,0 +1,108 @@
+package com.example.demoinflearnrestapi.events;
+
+import com.example.demoinflearnrestapi.common.BenchmarkContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+
+/**
+ * Each stage of {@link EventController#createEvent} and {@link EventController#getEvent} on its own.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventStageBenchmark {
+
+    @Param("100")
+    int eventCount;
+
+    BenchmarkContext context;
+    Validator validator;
+    EventValidator eventValidator;
+    EventMapper eventMapper;
+    ObjectMapper halObjectMapper;
+    EventDto eventDto;
+    Event event;
+    EventResource eventResource;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.context = new BenchmarkContext(this.eventCount);
+        this.validator = this.context.getBean(Validator.class);
+        this.eventValidator = this.context.getBean(EventValidator.class);
+        this.eventMapper = this.context.getBean(EventMapper.class);
+        this.halObjectMapper = this.context.getHalObjectMapper();
+
+        this.eventDto = EventDto.builder()
+                .name("Spring")
+                .description("REST API Development with Spring")
+                .beginEnrollmentDateTime(LocalDateTime.of(2022, 10, 25, 0, 0))
+                .closeEnrollmentDateTime(LocalDateTime.of(2022, 10, 25, 23, 59))
+                .beginEventDateTime(LocalDateTime.of(2022, 10, 26, 14, 51))
+                .endEventDateTime(LocalDateTime.of(2022, 10, 26, 15, 0))
+                .basePrice(100)
+                .maxPrice(200)
+                .limitOfEnrollment(200)
+                .location("상도동 리치빈스")
+                .build();
+
+        this.event = this.context.getBean(EventRepository.class)
+                .findById(this.context.getEventIds().get(0))
+                .orElseThrow();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        this.eventResource = buildResource();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        this.context.close();
+    }
+
+    @Benchmark
+    public Errors validate() {
+        Errors errors = new BeanPropertyBindingResult(this.eventDto, "eventDto");
+        Set<ConstraintViolation<EventDto>> violations = this.validator.validate(this.eventDto);
+        if (violations.isEmpty()) {
+            this.eventValidator.validate(this.eventDto, errors);
+        }
+        return errors;
+    }
+
+    @Benchmark
+    public Event map() {
+        return this.eventMapper.toEntity(this.eventDto);
+    }
+
+    @Benchmark
+    public EventResource buildResource() {
+        WebMvcLinkBuilder selfLinkBuilder = linkTo(EventController.class).slash(this.event.getId());
+        EventResource eventResource = new EventResource(this.event);
+        eventResource.add(selfLinkBuilder.withRel("update-event"));
+        eventResource.add(linkTo(EventController.class).withRel("query-events"));
+        eventResource.add(Link.of("/docs/index.html#resources-events-create").withRel("profile"));
+        return eventResource;
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return this.halObjectMapper.writeValueAsBytes(this.eventResource);
+    }
+}
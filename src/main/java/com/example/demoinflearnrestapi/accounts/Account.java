@@ -1,8 +1,15 @@
 package com.example.demoinflearnrestapi.accounts;
 
+import com.example.demoinflearnrestapi.common.PooledSequenceGenerator;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import javax.persistence.*;
+import java.io.Serializable;
 import java.util.Set;
 
 @EqualsAndHashCode(of = "id")
@@ -12,17 +19,22 @@ import java.util.Set;
 @Builder
 @Getter
 @Entity
-public class Account {
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@NaturalIdCache
+public class Account implements Serializable {
 
-    @Id @GeneratedValue
+    @Id
+    @GeneratedValue(generator = "pooled")
+    @GenericGenerator(name = "pooled", strategy = PooledSequenceGenerator.STRATEGY)
     private Integer id;
 
+    @NaturalId
     @Column(unique = true)
     private String email;
 
     private String password;
 
-    @ElementCollection(fetch = FetchType.EAGER)
-    @Enumerated(EnumType.STRING)
+    @Convert(converter = AccountRoles.class)
+    @Column(nullable = false)
     private Set<AccountRole> roles;
 }
@@ -1,27 +1,20 @@
 package com.example.demoinflearnrestapi.accounts;
 
 import lombok.Getter;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 
-import java.util.Collection;
-import java.util.Set;
-import java.util.stream.Collectors;
-
 @Getter
 public class AccountAdapter extends User {
 
     private Account account;
 
     public AccountAdapter(Account account) {
-        super(account.getEmail(), account.getPassword(), authorities(account.getRoles()));
+        super(account.getEmail(), account.getPassword(), AccountRoles.authorities(account.getRoles()));
         this.account = account;
     }
 
-    private static Collection<? extends GrantedAuthority> authorities(Set<AccountRole> roles) {
-        return roles.stream()
-                .map(r -> new SimpleGrantedAuthority("ROLE_" + r.name()))
-                .collect(Collectors.toSet());
+    public AccountAdapter(AccountAdapter accountAdapter) {
+        super(accountAdapter.getUsername(), accountAdapter.getPassword(), accountAdapter.getAuthorities());
+        this.account = accountAdapter.account;
     }
 }
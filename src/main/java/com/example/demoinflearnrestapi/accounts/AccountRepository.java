@@ -1,10 +1,6 @@
 package com.example.demoinflearnrestapi.accounts;
 
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.security.core.userdetails.UserDetails;
 
-import java.util.Optional;
-
-public interface AccountRepository extends JpaRepository<Account, Integer> {
-    Optional<Account> findByEmail(String username);
+public interface AccountRepository extends JpaRepository<Account, Integer>, AccountRepositoryCustom {
 }
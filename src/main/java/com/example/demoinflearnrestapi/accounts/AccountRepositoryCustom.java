@@ -0,0 +1,11 @@
+package com.example.demoinflearnrestapi.accounts;
+
+import java.util.Optional;
+
+public interface AccountRepositoryCustom {
+    /**
+     * Resolves the account through its natural id, so repeated lookups are served from the
+     * second-level cache instead of a query.
+     */
+    Optional<Account> findByEmail(String email);
+}
@@ -0,0 +1,23 @@
+package com.example.demoinflearnrestapi.accounts;
+
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.util.Optional;
+
+public class AccountRepositoryCustomImpl implements AccountRepositoryCustom {
+    private final EntityManager entityManager;
+
+    public AccountRepositoryCustomImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Account> findByEmail(String email) {
+        return this.entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Account.class)
+                .loadOptional(email);
+    }
+}
@@ -1,5 +1,26 @@
 package com.example.demoinflearnrestapi.accounts;
 
+/**
+ * Roles are stored together as a bitmask, see {@link AccountRoles}. A role keeps its bit forever; new
+ * roles take the next unused one.
+ */
 public enum AccountRole {
-    ADMIN, USER
+    ADMIN(1),
+    USER(1 << 1);
+
+    private final int bit;
+    private final String authority;
+
+    AccountRole(int bit) {
+        this.bit = bit;
+        this.authority = "ROLE_" + name();
+    }
+
+    public int bit() {
+        return bit;
+    }
+
+    public String authority() {
+        return authority;
+    }
 }
@@ -0,0 +1,94 @@
+package com.example.demoinflearnrestapi.accounts;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Maps a set of {@link AccountRole}s to the bitmask stored in {@code account.roles}. There are only a
+ * handful of distinct masks, so the role and authority sets of each are built once and shared, in tables
+ * covering every mask up to the highest bit assigned to a role. Unassigned bits are masked off first.
+ */
+@Converter
+public class AccountRoles implements AttributeConverter<Set<AccountRole>, Integer> {
+    private static final int KNOWN_BITS = knownBits();
+    private static final int MASKS = Integer.highestOneBit(KNOWN_BITS) << 1;
+    private static final Set<AccountRole>[] ROLES = rolesByMask();
+    private static final Set<GrantedAuthority>[] AUTHORITIES = authoritiesByMask();
+
+    public static int mask(Set<AccountRole> roles) {
+        int mask = 0;
+        if (roles != null) {
+            for (AccountRole role : roles) {
+                mask |= role.bit();
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Returns the unmodifiable, shared set of the roles in {@code mask}, ignoring unknown bits.
+     */
+    public static Set<AccountRole> roles(int mask) {
+        return ROLES[mask & KNOWN_BITS];
+    }
+
+    /**
+     * Returns the unmodifiable, shared {@code ROLE_} authorities of {@code roles}.
+     */
+    public static Set<GrantedAuthority> authorities(Set<AccountRole> roles) {
+        return AUTHORITIES[mask(roles) & KNOWN_BITS];
+    }
+
+    @Override
+    public Integer convertToDatabaseColumn(Set<AccountRole> roles) {
+        return mask(roles);
+    }
+
+    @Override
+    public Set<AccountRole> convertToEntityAttribute(Integer mask) {
+        return roles(mask == null ? 0 : mask);
+    }
+
+    private static int knownBits() {
+        int bits = 0;
+        for (AccountRole role : AccountRole.values()) {
+            bits |= role.bit();
+        }
+        return bits;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Set<AccountRole>[] rolesByMask() {
+        Set<AccountRole>[] roles = new Set[MASKS];
+        for (int mask = 0; mask < MASKS; mask++) {
+            Set<AccountRole> set = EnumSet.noneOf(AccountRole.class);
+            for (AccountRole role : AccountRole.values()) {
+                if ((mask & role.bit()) != 0) {
+                    set.add(role);
+                }
+            }
+            roles[mask] = Collections.unmodifiableSet(set);
+        }
+        return roles;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Set<GrantedAuthority>[] authoritiesByMask() {
+        Set<GrantedAuthority>[] authorities = new Set[MASKS];
+        for (int mask = 0; mask < MASKS; mask++) {
+            Set<GrantedAuthority> set = new LinkedHashSet<>();
+            for (AccountRole role : ROLES[mask]) {
+                set.add(new SimpleGrantedAuthority(role.authority()));
+            }
+            authorities[mask] = Collections.unmodifiableSet(set);
+        }
+        return authorities;
+    }
+}
@@ -1,43 +1,58 @@
 package com.example.demoinflearnrestapi.accounts;
 
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
+import com.example.demoinflearnrestapi.configs.AccountProperties;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
-import java.util.Collection;
-import java.util.Set;
-import java.util.stream.Collectors;
-
+/**
+ * Loads accounts for authentication through a bounded cache keyed by email, published as the
+ * {@code accounts.users} cache metrics. Callers get a copy of the cached user, since Spring Security
+ * erases the credentials of the user it authenticated.
+ */
 @Service
-public class AccountService implements UserDetailsService {
+public class AccountService implements UserDetailsService, MeterBinder {
 
     private final AccountRepository accountRepository;
     private final PasswordEncoder passwordEncoder;
+    private final LoadingCache<String, AccountAdapter> users;
 
-    public AccountService(AccountRepository accountRepository, PasswordEncoder passwordEncoder) {
+    public AccountService(AccountRepository accountRepository, PasswordEncoder passwordEncoder, AccountProperties accountProperties) {
         this.accountRepository = accountRepository;
         this.passwordEncoder = passwordEncoder;
+        this.users = Caffeine.newBuilder()
+                .maximumSize(accountProperties.getUserCache().getMaximumSize())
+                .expireAfterWrite(accountProperties.getUserCache().getTimeToLive())
+                .recordStats()
+                .build(this::loadAccount);
     }
 
     public Account saveAccount(Account account) {
         account.setPassword(this.passwordEncoder.encode(account.getPassword()));
-        return this.accountRepository.save(account);
+        Account saved = this.accountRepository.save(account);
+        this.users.invalidate(saved.getEmail());
+        return saved;
     }
 
     @Override
     public UserDetails loadUserByUsername(String userEmail) throws UsernameNotFoundException {
-        Account account = accountRepository.findByEmail(userEmail).orElseThrow(() -> new UsernameNotFoundException(userEmail));
-        return new AccountAdapter(account);
+        return new AccountAdapter(this.users.get(userEmail));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, this.users, "accounts.users");
     }
 
-    private Collection<? extends GrantedAuthority> authorities(Set<AccountRole> roles) {
-        return roles.stream()
-                .map(r -> new SimpleGrantedAuthority("ROLE_" + r.name()))
-                .collect(Collectors.toSet());
+    private AccountAdapter loadAccount(String userEmail) {
+        Account account = accountRepository.findByEmail(userEmail).orElseThrow(() -> new UsernameNotFoundException(userEmail));
+        return new AccountAdapter(account);
     }
 }
@@ -0,0 +1,65 @@
+package com.example.demoinflearnrestapi.accounts;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.oauth2.provider.token.DefaultUserAuthenticationConverter;
+import org.springframework.util.StringUtils;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Puts the account id next to the user name and authorities of a self-contained token, and rebuilds an
+ * {@link AccountAdapter} from those claims, so {@link CurrentUser} resolves to an {@link Account} without
+ * loading it.
+ */
+public class AccountUserAuthenticationConverter extends DefaultUserAuthenticationConverter {
+    static final String ACCOUNT_ID = "account_id";
+
+    @Override
+    public Map<String, ?> convertUserAuthentication(Authentication authentication) {
+        Map<String, Object> response = new LinkedHashMap<>(super.convertUserAuthentication(authentication));
+        if (authentication.getPrincipal() instanceof AccountAdapter) {
+            response.put(ACCOUNT_ID, ((AccountAdapter) authentication.getPrincipal()).getAccount().getId());
+        }
+        return response;
+    }
+
+    @Override
+    public Authentication extractAuthentication(Map<String, ?> map) {
+        if (!map.containsKey(USERNAME) || !(map.get(ACCOUNT_ID) instanceof Number)) {
+            return super.extractAuthentication(map);
+        }
+        List<GrantedAuthority> authorities = authorities(map.get(AUTHORITIES));
+        int roles = 0;
+        for (GrantedAuthority authority : authorities) {
+            for (AccountRole role : AccountRole.values()) {
+                if (role.authority().equals(authority.getAuthority())) {
+                    roles |= role.bit();
+                }
+            }
+        }
+        Account account = Account.builder()
+                .id(((Number) map.get(ACCOUNT_ID)).intValue())
+                .email((String) map.get(USERNAME))
+                .password("")
+                .roles(AccountRoles.roles(roles))
+                .build();
+        return new UsernamePasswordAuthenticationToken(new AccountAdapter(account), "N/A", authorities);
+    }
+
+    private static List<GrantedAuthority> authorities(Object authorities) {
+        if (authorities instanceof String) {
+            return AuthorityUtils.commaSeparatedStringToAuthorityList((String) authorities);
+        }
+        if (authorities instanceof Collection) {
+            return AuthorityUtils.commaSeparatedStringToAuthorityList(
+                    StringUtils.collectionToCommaDelimitedString((Collection<?>) authorities));
+        }
+        return AuthorityUtils.NO_AUTHORITIES;
+    }
+}
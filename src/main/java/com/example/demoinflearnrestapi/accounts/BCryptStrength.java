@@ -0,0 +1,39 @@
+package com.example.demoinflearnrestapi.accounts;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+/**
+ * Picks a bcrypt strength from how long verifying a password takes on this machine.
+ */
+public final class BCryptStrength {
+    public static final int MIN = 4;
+    public static final int MAX = 31;
+
+    private BCryptStrength() {
+    }
+
+    /**
+     * Returns the highest strength whose verification takes no longer than {@code targetVerifyTime}, or
+     * {@link #MIN} if even that is slower. Each step doubles the work, so this measures at most a
+     * couple of strengths past the target.
+     */
+    public static int calibrate(Duration targetVerifyTime) {
+        long target = targetVerifyTime.toNanos();
+        for (int strength = MIN; strength <= MAX; strength++) {
+            if (verifyTime(strength) > target) {
+                return Math.max(MIN, strength - 1);
+            }
+        }
+        return MAX;
+    }
+
+    private static long verifyTime(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        String encoded = encoder.encode("calibration");
+        long start = System.nanoTime();
+        encoder.matches("calibration", encoded);
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.demoinflearnrestapi.accounts;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs a (slow, CPU bound) {@link PasswordEncoder} on its own fixed pool with a bounded queue. When the
+ * queue is full, callers fail right away with {@link PasswordHashingRejectedException} instead of
+ * piling up behind each other, so a login storm cannot occupy every request thread.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, MeterBinder, DisposableBean {
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+
+    private volatile Timer encodeTimer;
+    private volatile Timer matchesTimer;
+    private volatile Counter rejectedCounter;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity) {
+        this.delegate = delegate;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("password-hashing-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> this.delegate.encode(rawPassword), this.encodeTimer);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> this.delegate.matches(rawPassword, encodedPassword), this.matchesTimer);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return this.delegate.upgradeEncoding(encodedPassword);
+    }
+
+    int queuedTasks() {
+        return this.executor.getQueue().size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.encodeTimer = Timer.builder("passwords.hashing")
+                .description("Time taken to hash or verify a password, excluding time spent queued")
+                .tag("operation", "encode")
+                .register(registry);
+        this.matchesTimer = Timer.builder("passwords.hashing")
+                .description("Time taken to hash or verify a password, excluding time spent queued")
+                .tag("operation", "matches")
+                .register(registry);
+        this.rejectedCounter = Counter.builder("passwords.hashing.rejected")
+                .description("Password hashing requests rejected because the queue was full")
+                .register(registry);
+        Gauge.builder("passwords.hashing.queued", this, BoundedPasswordEncoder::queuedTasks)
+                .description("Password hashing requests waiting for a thread")
+                .register(registry);
+        Gauge.builder("passwords.hashing.active", this.executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password hashing requests running")
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        this.executor.shutdown();
+    }
+
+    private <T> T execute(Callable<T> task, Timer timer) {
+        Future<T> future;
+        try {
+            future = this.executor.submit(timer == null ? task : () -> timer.recordCallable(task));
+        } catch (RejectedExecutionException e) {
+            if (this.rejectedCounter != null) {
+                this.rejectedCounter.increment();
+            }
+            throw new PasswordHashingRejectedException("Too many concurrent password checks, try again later", e);
+        }
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new AuthenticationServiceException("Interrupted while checking password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new AuthenticationServiceException(e.getCause().getMessage(), e.getCause());
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.example.demoinflearnrestapi.accounts;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import org.springframework.security.oauth2.common.ExpiringOAuth2RefreshToken;
+import org.springframework.security.oauth2.common.OAuth2AccessToken;
+import org.springframework.security.oauth2.common.OAuth2RefreshToken;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.token.AuthenticationKeyGenerator;
+import org.springframework.security.oauth2.provider.token.DefaultAuthenticationKeyGenerator;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory token store holding at most {@code maximumSize} access and refresh tokens each. Tokens are
+ * kept in expiry order and dropped as soon as they expire, on access or on {@link #removeExpired()};
+ * when the store is full the least recently used tokens are dropped first, so their owners must log in
+ * again.
+ */
+public class BoundedTokenStore implements ExpiringTokenStore {
+    private final AuthenticationKeyGenerator authenticationKeyGenerator = new DefaultAuthenticationKeyGenerator();
+    private final Cache<String, AccessTokenEntry> accessTokens;
+    private final Cache<String, RefreshTokenEntry> refreshTokens;
+    private final ConcurrentMap<String, String> accessTokenByAuthentication = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, String> accessTokenByRefreshToken = new ConcurrentHashMap<>();
+
+    public BoundedTokenStore(long maximumSize) {
+        this.accessTokens = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry<AccessTokenEntry>(entry -> entry.token.getExpiration()))
+                .executor(Runnable::run)
+                .removalListener(this::accessTokenRemoved)
+                .build();
+        this.refreshTokens = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry<RefreshTokenEntry>(entry -> entry.token instanceof ExpiringOAuth2RefreshToken
+                        ? ((ExpiringOAuth2RefreshToken) entry.token).getExpiration()
+                        : null))
+                .executor(Runnable::run)
+                .removalListener((String tokenValue, RefreshTokenEntry entry, RemovalCause cause) -> {
+                    if (cause != RemovalCause.REPLACED) {
+                        this.accessTokenByRefreshToken.remove(tokenValue);
+                    }
+                })
+                .build();
+    }
+
+    @Override
+    public OAuth2Authentication readAuthentication(OAuth2AccessToken token) {
+        return readAuthentication(token.getValue());
+    }
+
+    @Override
+    public OAuth2Authentication readAuthentication(String token) {
+        AccessTokenEntry entry = this.accessTokens.getIfPresent(token);
+        return entry == null ? null : entry.authentication;
+    }
+
+    @Override
+    public void storeAccessToken(OAuth2AccessToken token, OAuth2Authentication authentication) {
+        String authenticationKey = this.authenticationKeyGenerator.extractKey(authentication);
+        String refreshToken = token.getRefreshToken() == null ? null : token.getRefreshToken().getValue();
+        this.accessTokens.put(token.getValue(), new AccessTokenEntry(token, authentication, authenticationKey, refreshToken));
+        this.accessTokenByAuthentication.put(authenticationKey, token.getValue());
+        if (refreshToken != null) {
+            this.accessTokenByRefreshToken.put(refreshToken, token.getValue());
+        }
+    }
+
+    @Override
+    public OAuth2AccessToken readAccessToken(String tokenValue) {
+        AccessTokenEntry entry = this.accessTokens.getIfPresent(tokenValue);
+        return entry == null ? null : entry.token;
+    }
+
+    @Override
+    public void removeAccessToken(OAuth2AccessToken token) {
+        this.accessTokens.invalidate(token.getValue());
+    }
+
+    @Override
+    public void storeRefreshToken(OAuth2RefreshToken refreshToken, OAuth2Authentication authentication) {
+        this.refreshTokens.put(refreshToken.getValue(), new RefreshTokenEntry(refreshToken, authentication));
+    }
+
+    @Override
+    public OAuth2RefreshToken readRefreshToken(String tokenValue) {
+        RefreshTokenEntry entry = this.refreshTokens.getIfPresent(tokenValue);
+        return entry == null ? null : entry.token;
+    }
+
+    @Override
+    public OAuth2Authentication readAuthenticationForRefreshToken(OAuth2RefreshToken token) {
+        RefreshTokenEntry entry = this.refreshTokens.getIfPresent(token.getValue());
+        return entry == null ? null : entry.authentication;
+    }
+
+    @Override
+    public void removeRefreshToken(OAuth2RefreshToken token) {
+        this.refreshTokens.invalidate(token.getValue());
+    }
+
+    @Override
+    public void removeAccessTokenUsingRefreshToken(OAuth2RefreshToken refreshToken) {
+        String accessToken = this.accessTokenByRefreshToken.remove(refreshToken.getValue());
+        if (accessToken != null) {
+            this.accessTokens.invalidate(accessToken);
+        }
+    }
+
+    @Override
+    public OAuth2AccessToken getAccessToken(OAuth2Authentication authentication) {
+        String accessToken = this.accessTokenByAuthentication.get(this.authenticationKeyGenerator.extractKey(authentication));
+        return accessToken == null ? null : readAccessToken(accessToken);
+    }
+
+    /**
+     * Scans every stored access token; meant for occasional administrative use.
+     */
+    @Override
+    public Collection<OAuth2AccessToken> findTokensByClientIdAndUserName(String clientId, String userName) {
+        return this.accessTokens.asMap().values().stream()
+                .filter(entry -> clientId.equals(entry.authentication.getOAuth2Request().getClientId()))
+                .filter(entry -> !entry.authentication.isClientOnly() && userName.equals(entry.authentication.getName()))
+                .map(entry -> entry.token)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Scans every stored access token; meant for occasional administrative use.
+     */
+    @Override
+    public Collection<OAuth2AccessToken> findTokensByClientId(String clientId) {
+        return this.accessTokens.asMap().values().stream()
+                .filter(entry -> clientId.equals(entry.authentication.getOAuth2Request().getClientId()))
+                .map(entry -> entry.token)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void removeExpired() {
+        this.accessTokens.cleanUp();
+        this.refreshTokens.cleanUp();
+    }
+
+    @Override
+    public long countAccessTokens() {
+        return this.accessTokens.estimatedSize();
+    }
+
+    @Override
+    public long countRefreshTokens() {
+        return this.refreshTokens.estimatedSize();
+    }
+
+    private void accessTokenRemoved(String tokenValue, AccessTokenEntry entry, RemovalCause cause) {
+        if (entry == null || cause == RemovalCause.REPLACED) {
+            return;
+        }
+        this.accessTokenByAuthentication.remove(entry.authenticationKey, tokenValue);
+        if (entry.refreshToken != null) {
+            this.accessTokenByRefreshToken.remove(entry.refreshToken, tokenValue);
+        }
+    }
+
+    private static class AccessTokenEntry {
+        private final OAuth2AccessToken token;
+        private final OAuth2Authentication authentication;
+        private final String authenticationKey;
+        private final String refreshToken;
+
+        AccessTokenEntry(OAuth2AccessToken token, OAuth2Authentication authentication, String authenticationKey, String refreshToken) {
+            this.token = token;
+            this.authentication = authentication;
+            this.authenticationKey = authenticationKey;
+            this.refreshToken = refreshToken;
+        }
+    }
+
+    private static class RefreshTokenEntry {
+        private final OAuth2RefreshToken token;
+        private final OAuth2Authentication authentication;
+
+        RefreshTokenEntry(OAuth2RefreshToken token, OAuth2Authentication authentication) {
+            this.token = token;
+            this.authentication = authentication;
+        }
+    }
+
+    /**
+     * Expires each entry at its token's expiration date; tokens without one never expire.
+     */
+    private static class TokenExpiry<V> implements Expiry<String, V> {
+        private final Function<V, Date> expiration;
+
+        TokenExpiry(Function<V, Date> expiration) {
+            this.expiration = expiration;
+        }
+
+        @Override
+        public long expireAfterCreate(String key, V value, long currentTime) {
+            Date expiration = this.expiration.apply(value);
+            if (expiration == null) {
+                return Long.MAX_VALUE;
+            }
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, expiration.getTime() - System.currentTimeMillis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, V value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, V value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
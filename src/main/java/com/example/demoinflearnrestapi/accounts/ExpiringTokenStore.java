@@ -0,0 +1,15 @@
+package com.example.demoinflearnrestapi.accounts;
+
+import org.springframework.security.oauth2.provider.token.TokenStore;
+
+/**
+ * A {@link TokenStore} that can drop expired tokens on demand, driven by {@link TokenSweeper}.
+ */
+public interface ExpiringTokenStore extends TokenStore {
+
+    void removeExpired();
+
+    long countAccessTokens();
+
+    long countRefreshTokens();
+}
@@ -0,0 +1,94 @@
+package com.example.demoinflearnrestapi.accounts;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.support.SqlLobValue;
+import org.springframework.security.oauth2.common.ExpiringOAuth2RefreshToken;
+import org.springframework.security.oauth2.common.OAuth2AccessToken;
+import org.springframework.security.oauth2.common.OAuth2RefreshToken;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.token.AuthenticationKeyGenerator;
+import org.springframework.security.oauth2.provider.token.DefaultAuthenticationKeyGenerator;
+import org.springframework.security.oauth2.provider.token.store.JdbcTokenStore;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Date;
+
+/**
+ * {@link JdbcTokenStore} that also records when each token expires, so expired rows can be deleted with
+ * an indexed range query instead of being deserialized one by one. Several nodes can share the tables;
+ * see {@code db/oauth-token-schema.sql}.
+ */
+public class JdbcExpiringTokenStore extends JdbcTokenStore implements ExpiringTokenStore {
+    private static final String INSERT_ACCESS_TOKEN_SQL = "insert into oauth_access_token (token_id, token, authentication_id, user_name, client_id, authentication, refresh_token, expiration) values (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_REFRESH_TOKEN_SQL = "insert into oauth_refresh_token (token_id, token, authentication, expiration) values (?, ?, ?, ?)";
+    private static final String DELETE_EXPIRED_ACCESS_TOKENS_SQL = "delete from oauth_access_token where expiration < ?";
+    private static final String DELETE_EXPIRED_REFRESH_TOKENS_SQL = "delete from oauth_refresh_token where expiration < ?";
+    private static final String COUNT_ACCESS_TOKENS_SQL = "select count(*) from oauth_access_token";
+    private static final String COUNT_REFRESH_TOKENS_SQL = "select count(*) from oauth_refresh_token";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AuthenticationKeyGenerator authenticationKeyGenerator = new DefaultAuthenticationKeyGenerator();
+
+    public JdbcExpiringTokenStore(DataSource dataSource) {
+        super(dataSource);
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public void storeAccessToken(OAuth2AccessToken token, OAuth2Authentication authentication) {
+        String refreshToken = token.getRefreshToken() == null ? null : token.getRefreshToken().getValue();
+        if (readAccessToken(token.getValue()) != null) {
+            removeAccessToken(token.getValue());
+        }
+        this.jdbcTemplate.update(INSERT_ACCESS_TOKEN_SQL,
+                new Object[]{
+                        extractTokenKey(token.getValue()),
+                        new SqlLobValue(serializeAccessToken(token)),
+                        this.authenticationKeyGenerator.extractKey(authentication),
+                        authentication.isClientOnly() ? null : authentication.getName(),
+                        authentication.getOAuth2Request().getClientId(),
+                        new SqlLobValue(serializeAuthentication(authentication)),
+                        extractTokenKey(refreshToken),
+                        timestamp(token.getExpiration())},
+                new int[]{Types.VARCHAR, Types.BLOB, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.BLOB, Types.VARCHAR, Types.TIMESTAMP});
+    }
+
+    @Override
+    public void storeRefreshToken(OAuth2RefreshToken refreshToken, OAuth2Authentication authentication) {
+        Date expiration = refreshToken instanceof ExpiringOAuth2RefreshToken
+                ? ((ExpiringOAuth2RefreshToken) refreshToken).getExpiration()
+                : null;
+        this.jdbcTemplate.update(INSERT_REFRESH_TOKEN_SQL,
+                new Object[]{
+                        extractTokenKey(refreshToken.getValue()),
+                        new SqlLobValue(serializeRefreshToken(refreshToken)),
+                        new SqlLobValue(serializeAuthentication(authentication)),
+                        timestamp(expiration)},
+                new int[]{Types.VARCHAR, Types.BLOB, Types.BLOB, Types.TIMESTAMP});
+    }
+
+    @Override
+    public void removeExpired() {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        this.jdbcTemplate.update(DELETE_EXPIRED_ACCESS_TOKENS_SQL, now);
+        this.jdbcTemplate.update(DELETE_EXPIRED_REFRESH_TOKENS_SQL, now);
+    }
+
+    @Override
+    public long countAccessTokens() {
+        Long count = this.jdbcTemplate.queryForObject(COUNT_ACCESS_TOKENS_SQL, Long.class);
+        return count == null ? 0 : count;
+    }
+
+    @Override
+    public long countRefreshTokens() {
+        Long count = this.jdbcTemplate.queryForObject(COUNT_REFRESH_TOKENS_SQL, Long.class);
+        return count == null ? 0 : count;
+    }
+
+    private static Timestamp timestamp(Date date) {
+        return date == null ? null : new Timestamp(date.getTime());
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.demoinflearnrestapi.accounts;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.oauth2.common.exceptions.OAuth2Exception;
+import org.springframework.security.oauth2.provider.error.DefaultWebResponseExceptionTranslator;
+
+/**
+ * Answers {@link PasswordHashingRejectedException} on the token endpoint with
+ * {@code 503 temporarily_unavailable} and a {@code Retry-After} header, instead of a {@code 401}.
+ */
+public class PasswordHashingExceptionTranslator extends DefaultWebResponseExceptionTranslator {
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    @Override
+    public ResponseEntity<OAuth2Exception> translate(Exception e) throws Exception {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof PasswordHashingRejectedException) {
+                HttpHeaders headers = new HttpHeaders();
+                headers.set(HttpHeaders.CACHE_CONTROL, "no-store");
+                headers.set(HttpHeaders.PRAGMA, "no-cache");
+                headers.set(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+                return new ResponseEntity<>(new TemporarilyUnavailableException(cause.getMessage()), headers,
+                        HttpStatus.SERVICE_UNAVAILABLE);
+            }
+        }
+        return super.translate(e);
+    }
+
+    private static class TemporarilyUnavailableException extends OAuth2Exception {
+
+        TemporarilyUnavailableException(String msg) {
+            super(msg);
+        }
+
+        @Override
+        public String getOAuth2ErrorCode() {
+            return "temporarily_unavailable";
+        }
+
+        @Override
+        public int getHttpErrorCode() {
+            return HttpStatus.SERVICE_UNAVAILABLE.value();
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.demoinflearnrestapi.accounts;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/**
+ * Thrown when the password hashing executor is saturated; answered with {@code 503 Service Unavailable}.
+ */
+public class PasswordHashingRejectedException extends AuthenticationServiceException {
+
+    public PasswordHashingRejectedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.demoinflearnrestapi.accounts;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.security.oauth2.provider.token.TokenStore;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * Periodically removes expired tokens from an {@link ExpiringTokenStore} and publishes the
+ * {@code tokens.sweep} timer and the {@code tokens.stored} gauges, counted after each sweep.
+ * Does nothing for other token stores.
+ */
+public class TokenSweeper implements InitializingBean, DisposableBean {
+    private final ExpiringTokenStore tokenStore;
+    private final TaskScheduler taskScheduler;
+    private final Duration interval;
+    private final Timer sweepTimer;
+
+    private volatile long accessTokens;
+    private volatile long refreshTokens;
+    private ScheduledFuture<?> scheduledSweep;
+
+    public TokenSweeper(TokenStore tokenStore, TaskScheduler taskScheduler, Duration interval, MeterRegistry meterRegistry) {
+        this.tokenStore = tokenStore instanceof ExpiringTokenStore ? (ExpiringTokenStore) tokenStore : null;
+        this.taskScheduler = taskScheduler;
+        this.interval = interval;
+        if (this.tokenStore == null) {
+            this.sweepTimer = null;
+            return;
+        }
+        this.sweepTimer = Timer.builder("tokens.sweep")
+                .description("Time taken to remove expired tokens")
+                .register(meterRegistry);
+        Gauge.builder("tokens.stored", this, sweeper -> sweeper.accessTokens)
+                .description("Tokens in the token store as of the last sweep")
+                .tag("type", "access")
+                .register(meterRegistry);
+        Gauge.builder("tokens.stored", this, sweeper -> sweeper.refreshTokens)
+                .description("Tokens in the token store as of the last sweep")
+                .tag("type", "refresh")
+                .register(meterRegistry);
+    }
+
+    public void sweep() {
+        if (this.tokenStore == null) {
+            return;
+        }
+        this.sweepTimer.record(this.tokenStore::removeExpired);
+        this.accessTokens = this.tokenStore.countAccessTokens();
+        this.refreshTokens = this.tokenStore.countRefreshTokens();
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (this.tokenStore != null) {
+            this.scheduledSweep = this.taskScheduler.scheduleWithFixedDelay(this::sweep, this.interval);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (this.scheduledSweep != null) {
+            this.scheduledSweep.cancel(false);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.demoinflearnrestapi.common;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Counts keys in a trie where every node also keeps its {@code maximumCompletions} most counted keys.
+ * A completion only walks the prefix, whatever the number of keys below it; the cost moves to
+ * {@link #add} and {@link #remove}, which rebuild those lists along the path of the key from the lists
+ * of the children. Not thread-safe.
+ */
+public class CompletionTrie {
+    private static final Comparator<Node> BY_COUNT = Comparator.<Node>comparingInt(node -> node.count).reversed()
+            .thenComparing(node -> node.key);
+
+    private final int maximumCompletions;
+    private final Node root = new Node();
+
+    public CompletionTrie(int maximumCompletions) {
+        this.maximumCompletions = maximumCompletions;
+    }
+
+    /**
+     * Counts the key once more. {@code value} is what completions return for the key; the one given when
+     * the key was first added is kept.
+     */
+    public void add(String key, String value) {
+        List<Node> path = path(key, true);
+        Node node = path.get(path.size() - 1);
+        if (node.count == 0) {
+            node.key = key;
+            node.value = value;
+        }
+        node.count++;
+        update(path, key);
+    }
+
+    /**
+     * Counts the key once less, forgetting it when no count is left.
+     */
+    public void remove(String key) {
+        List<Node> path = path(key, false);
+        if (path == null || path.get(path.size() - 1).count == 0) {
+            return;
+        }
+        Node node = path.get(path.size() - 1);
+        node.count--;
+        if (node.count == 0) {
+            node.key = null;
+            node.value = null;
+        }
+        update(path, key);
+    }
+
+    /**
+     * Up to {@code limit} keys starting with the prefix, most counted first and then in key order.
+     */
+    public List<Completion> complete(String prefix, int limit) {
+        List<Node> path = path(prefix, false);
+        if (path == null) {
+            return List.of();
+        }
+        List<Node> top = path.get(path.size() - 1).top;
+        List<Completion> completions = new ArrayList<>(Math.min(limit, top.size()));
+        for (int i = 0; i < top.size() && i < limit; i++) {
+            Node node = top.get(i);
+            completions.add(new Completion(node.value, node.count));
+        }
+        return completions;
+    }
+
+    /**
+     * The nodes from the root to the key, or {@code null} when the key is not in the trie and
+     * {@code create} is not set.
+     */
+    private List<Node> path(String key, boolean create) {
+        List<Node> path = new ArrayList<>(key.length() + 1);
+        Node node = this.root;
+        path.add(node);
+        for (int i = 0; i < key.length(); i++) {
+            Node child = node.children.get(key.charAt(i));
+            if (child == null) {
+                if (!create) {
+                    return null;
+                }
+                child = new Node();
+                node.children.put(key.charAt(i), child);
+            }
+            node = child;
+            path.add(node);
+        }
+        return path;
+    }
+
+    private void update(List<Node> path, String key) {
+        for (int depth = path.size() - 1; depth >= 0; depth--) {
+            Node node = path.get(depth);
+            if (depth > 0 && node.count == 0 && node.children.isEmpty()) {
+                path.get(depth - 1).children.remove(key.charAt(depth - 1));
+                continue;
+            }
+            List<Node> candidates = new ArrayList<>();
+            if (node.count > 0) {
+                candidates.add(node);
+            }
+            for (Node child : node.children.values()) {
+                candidates.addAll(child.top);
+            }
+            candidates.sort(BY_COUNT);
+            node.top = candidates.size() > this.maximumCompletions
+                    ? new ArrayList<>(candidates.subList(0, this.maximumCompletions))
+                    : candidates;
+        }
+    }
+
+    private static class Node {
+        final Map<Character, Node> children = new HashMap<>(4);
+        List<Node> top = List.of();
+        String key;
+        String value;
+        int count;
+    }
+
+    @Getter
+    public static class Completion {
+        private final String value;
+        private final int count;
+
+        public Completion(String value, int count) {
+            this.value = value;
+            this.count = count;
+        }
+    }
+}
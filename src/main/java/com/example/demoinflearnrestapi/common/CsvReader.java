@@ -0,0 +1,105 @@
+package com.example.demoinflearnrestapi.common;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads RFC 4180 records one at a time. Quoted fields may contain commas, doubled quotes and line
+ * breaks; carriage returns outside quotes are ignored. Only the current record is held in memory, and
+ * a record longer than {@code maxRecordLength} characters, or one whose quote is never closed, is skipped
+ * with a {@link MalformedRecordException} instead.
+ */
+public class CsvReader {
+    private final Reader reader;
+    private final long maxRecordLength;
+    private long line = 1;
+    private long recordLine;
+
+    public CsvReader(Reader reader, long maxRecordLength) {
+        this.reader = reader;
+        this.maxRecordLength = maxRecordLength;
+    }
+
+    /**
+     * The fields of the next record, or {@code null} at the end of the input. A malformed record is read
+     * to its end before the exception is thrown, so the next call returns the record after it.
+     */
+    public List<String> read() throws IOException {
+        int c = this.reader.read();
+        if (c == -1) {
+            return null;
+        }
+        this.recordLine = this.line;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean fieldStarted = false;
+        long length = 0;
+        while (true) {
+            if (quoted) {
+                if (c == '"') {
+                    c = this.reader.read();
+                    if (c == '"') {
+                        length = append(field, '"', length);
+                        c = this.reader.read();
+                    } else {
+                        quoted = false;
+                    }
+                    continue;
+                }
+                if (c == -1) {
+                    throw new MalformedRecordException("Quoted field is not closed before the end of the input.");
+                }
+                if (c == '\n') {
+                    this.line++;
+                }
+                length = append(field, (char) c, length);
+            } else if (c == '"' && !fieldStarted) {
+                quoted = true;
+                fieldStarted = true;
+            } else if (c == ',') {
+                if (++length <= this.maxRecordLength) {
+                    fields.add(field.toString());
+                }
+                field.setLength(0);
+                fieldStarted = false;
+            } else if (c == '\n' || c == -1) {
+                if (c == '\n') {
+                    this.line++;
+                }
+                if (length > this.maxRecordLength) {
+                    throw new MalformedRecordException("Record is longer than " + this.maxRecordLength + " characters.");
+                }
+                fields.add(field.toString());
+                return fields;
+            } else if (c != '\r') {
+                length = append(field, (char) c, length);
+                fieldStarted = true;
+            }
+            c = this.reader.read();
+        }
+    }
+
+    /**
+     * Appends the character unless the record is already too long, in which case only its length is
+     * still counted.
+     */
+    private long append(StringBuilder field, char c, long length) {
+        if (length < this.maxRecordLength) {
+            field.append(c);
+        } else if (length == this.maxRecordLength) {
+            field.setLength(0);
+            field.trimToSize();
+        }
+        return length + 1;
+    }
+
+    /**
+     * The line the record last returned by {@link #read()} started on, counting from 1.
+     */
+    public long getRecordLine() {
+        return this.recordLine;
+    }
+}
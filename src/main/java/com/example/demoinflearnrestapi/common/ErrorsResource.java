@@ -7,12 +7,9 @@ import org.springframework.validation.Errors;
 
 import java.util.Arrays;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
-
 public class ErrorsResource extends EntityModel<Errors> {
     public ErrorsResource(Errors errors, Link... links) {
         super(errors, Arrays.asList(links));
-        add(linkTo(methodOn(IndexController.class).index()).withRel("index"));
+        add(Link.of(LinkBases.of(IndexController.class) + IndexController.PATH, "index"));
     }
 }
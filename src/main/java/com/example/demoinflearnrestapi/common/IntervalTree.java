@@ -0,0 +1,186 @@
+package com.example.demoinflearnrestapi.common;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Intervals identified by an int id, kept in an AVL tree ordered by start and id where every node also
+ * holds the largest end below it. An overlap query only descends into subtrees that can still hold an
+ * interval ending after {@code from} and starting before {@code to}, so it costs {@code O(log n + k)}
+ * for {@code k} results instead of a scan of every interval.
+ * <p>
+ * Intervals are half-open: {@code [start, end)} overlaps {@code [from, to)} when
+ * {@code start < to && end > from}. Not thread-safe.
+ */
+public class IntervalTree {
+    private final Map<Integer, Node> nodes = new HashMap<>();
+    private Node root;
+
+    /**
+     * Adds the interval, replacing the one previously stored under the same id.
+     */
+    public void put(int id, long start, long end) {
+        remove(id);
+        Node node = new Node(id, start, end);
+        this.root = insert(this.root, node);
+        this.nodes.put(id, node);
+    }
+
+    public boolean remove(int id) {
+        Node node = this.nodes.remove(id);
+        if (node == null) {
+            return false;
+        }
+        this.root = delete(this.root, node.start, node.id);
+        return true;
+    }
+
+    public int size() {
+        return this.nodes.size();
+    }
+
+    /**
+     * Ids of up to {@code limit} intervals overlapping {@code [from, to)}, by start and then id.
+     */
+    public List<Integer> overlapping(long from, long to, int limit) {
+        List<Integer> ids = new ArrayList<>(Math.min(limit, 64));
+        if (limit > 0) {
+            collect(this.root, from, to, limit, ids);
+        }
+        return ids;
+    }
+
+    private static void collect(Node node, long from, long to, int limit, List<Integer> ids) {
+        if (node == null || node.maxEnd <= from || ids.size() >= limit) {
+            return;
+        }
+        collect(node.left, from, to, limit, ids);
+        if (node.start >= to || ids.size() >= limit) {
+            return;
+        }
+        if (node.end > from) {
+            ids.add(node.id);
+        }
+        collect(node.right, from, to, limit, ids);
+    }
+
+    private static int compare(long start, int id, Node node) {
+        int result = Long.compare(start, node.start);
+        return result != 0 ? result : Integer.compare(id, node.id);
+    }
+
+    private static Node insert(Node node, Node inserted) {
+        if (node == null) {
+            return inserted;
+        }
+        if (compare(inserted.start, inserted.id, node) < 0) {
+            node.left = insert(node.left, inserted);
+        } else {
+            node.right = insert(node.right, inserted);
+        }
+        return balance(node);
+    }
+
+    private static Node delete(Node node, long start, int id) {
+        int result = compare(start, id, node);
+        if (result < 0) {
+            node.left = delete(node.left, start, id);
+        } else if (result > 0) {
+            node.right = delete(node.right, start, id);
+        } else {
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = deleteMin(node.right);
+            successor.left = node.left;
+            node = successor;
+        }
+        return balance(node);
+    }
+
+    private static Node deleteMin(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = deleteMin(node.left);
+        return balance(node);
+    }
+
+    private static Node balance(Node node) {
+        update(node);
+        int factor = height(node.left) - height(node.right);
+        if (factor > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (factor < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node left = node.left;
+        node.left = left.right;
+        left.right = node;
+        update(node);
+        update(left);
+        return left;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node right = node.right;
+        node.right = right.left;
+        right.left = node;
+        update(node);
+        update(right);
+        return right;
+    }
+
+    private static void update(Node node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        long maxEnd = node.end;
+        if (node.left != null) {
+            maxEnd = Math.max(maxEnd, node.left.maxEnd);
+        }
+        if (node.right != null) {
+            maxEnd = Math.max(maxEnd, node.right.maxEnd);
+        }
+        node.maxEnd = maxEnd;
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static class Node {
+        final int id;
+        final long start;
+        final long end;
+        long maxEnd;
+        int height = 1;
+        Node left;
+        Node right;
+
+        Node(int id, long start, long end) {
+            this.id = id;
+            this.start = start;
+            this.end = end;
+            this.maxEnd = end;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.demoinflearnrestapi.common;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reads one line of the underlying reader at a time as if it were the whole input, ending at the line
+ * break, so that a line can be handed to a streaming parser without first being read into a string.
+ * Reading more than {@code maxLineLength} characters of a line throws a {@link MalformedRecordException};
+ * {@link #nextLine()} then skips what is left of it.
+ */
+public class LineReader extends Reader {
+    private final Reader reader;
+    private final long maxLineLength;
+    private final char[] buffer = new char[8192];
+    private int position;
+    private int limit;
+    private long lineNumber;
+    private long lineLength;
+    private boolean lineEnded = true;
+
+    public LineReader(Reader reader, long maxLineLength) {
+        this.reader = reader;
+        this.maxLineLength = maxLineLength;
+    }
+
+    /**
+     * Moves to the start of the next line, skipping the rest of the current one. Returns {@code false}
+     * at the end of the input.
+     */
+    public boolean nextLine() throws IOException {
+        while (!this.lineEnded && fill()) {
+            int end = indexOfLineBreak(this.limit);
+            if (end < this.limit) {
+                this.position = end + 1;
+                this.lineEnded = true;
+            } else {
+                this.position = this.limit;
+            }
+        }
+        if (!fill()) {
+            return false;
+        }
+        this.lineEnded = false;
+        this.lineLength = 0;
+        this.lineNumber++;
+        return true;
+    }
+
+    /**
+     * The number of the current line, counting from 1.
+     */
+    public long getLineNumber() {
+        return this.lineNumber;
+    }
+
+    @Override
+    public int read(char[] chars, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        if (this.lineEnded || !fill()) {
+            return -1;
+        }
+        int end = indexOfLineBreak(Math.min(this.limit, this.position + length));
+        int count = end - this.position;
+        if (this.lineLength + count > this.maxLineLength) {
+            throw new MalformedRecordException("Line is longer than " + this.maxLineLength + " characters.");
+        }
+        System.arraycopy(this.buffer, this.position, chars, offset, count);
+        this.lineLength += count;
+        this.position = end;
+        if (end < this.limit && this.buffer[end] == '\n') {
+            this.position++;
+            this.lineEnded = true;
+        }
+        return count == 0 ? -1 : count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.reader.close();
+    }
+
+    private int indexOfLineBreak(int end) {
+        int index = this.position;
+        while (index < end && this.buffer[index] != '\n') {
+            index++;
+        }
+        return index;
+    }
+
+    private boolean fill() throws IOException {
+        if (this.position < this.limit) {
+            return true;
+        }
+        int count = this.reader.read(this.buffer);
+        if (count == -1) {
+            return false;
+        }
+        this.position = 0;
+        this.limit = count;
+        return true;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.demoinflearnrestapi.common;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+
+/**
+ * Base URIs of controllers, resolved with {@code linkTo(controller)} once per request and kept as a
+ * request attribute. Links below a base are then built by plain string concatenation, instead of
+ * resolving the controller mapping and the current request URI again for every link.
+ */
+public final class LinkBases {
+    private static final String ATTRIBUTE_PREFIX = LinkBases.class.getName() + ".";
+
+    private LinkBases() {
+    }
+
+    public static String of(Class<?> controller) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return resolve(controller);
+        }
+        String name = ATTRIBUTE_PREFIX + controller.getName();
+        String base = (String) attributes.getAttribute(name, RequestAttributes.SCOPE_REQUEST);
+        if (base == null) {
+            base = resolve(controller);
+            attributes.setAttribute(name, base, RequestAttributes.SCOPE_REQUEST);
+        }
+        return base;
+    }
+
+    private static String resolve(Class<?> controller) {
+        return linkTo(controller).toUri().toString();
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.demoinflearnrestapi.common;
+
+import java.io.IOException;
+
+/**
+ * A record of an upload that cannot be read, such as one longer than allowed or with an unterminated
+ * quote. The reader that threw it can go on with the next record.
+ */
+public class MalformedRecordException extends IOException {
+    public MalformedRecordException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.demoinflearnrestapi.configs;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "accounts")
+public class AccountProperties {
+    private final UserCache userCache = new UserCache();
+
+    @Setter
+    @Getter
+    public static class UserCache {
+        /**
+         * Maximum number of accounts kept for authentication.
+         */
+        private long maximumSize = 10_000;
+
+        /**
+         * How long a cached account is used before it is loaded again. Bounds how long changes made by
+         * other nodes go unnoticed.
+         */
+        private Duration timeToLive = Duration.ofMinutes(5);
+    }
+}
@@ -3,27 +3,47 @@ package com.example.demoinflearnrestapi.configs;
 import com.example.demoinflearnrestapi.accounts.Account;
 import com.example.demoinflearnrestapi.accounts.AccountRole;
 import com.example.demoinflearnrestapi.accounts.AccountService;
+import com.example.demoinflearnrestapi.accounts.BCryptStrength;
+import com.example.demoinflearnrestapi.accounts.BoundedPasswordEncoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.factory.PasswordEncoderFactories;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 
+import java.util.Map;
 import java.util.Set;
 
 @Configuration
+@EnableScheduling
 public class AppConfig {
+    private static final Logger log = LoggerFactory.getLogger(AppConfig.class);
+
     @Bean
     public ModelMapper modelMapper() {
         return new ModelMapper();
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(PasswordProperties passwordProperties) {
+        int strength = passwordProperties.getBcryptStrength();
+        if (passwordProperties.getBcryptTargetVerifyTime() != null) {
+            strength = BCryptStrength.calibrate(passwordProperties.getBcryptTargetVerifyTime());
+            log.info("Calibrated bcrypt strength {} for a target verify time of {}", strength,
+                    passwordProperties.getBcryptTargetVerifyTime());
+        }
+        // Hashes with any other id, such as {noop} or {pbkdf2}, are still verified by the default encoders
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", new BCryptPasswordEncoder(strength)));
+        passwordEncoder.setDefaultPasswordEncoderForMatches(PasswordEncoderFactories.createDelegatingPasswordEncoder());
+        return new BoundedPasswordEncoder(passwordEncoder, passwordProperties.getHashingThreads(),
+                passwordProperties.getHashingQueueCapacity());
     }
 
     @Bean
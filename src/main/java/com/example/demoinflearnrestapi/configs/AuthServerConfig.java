@@ -1,15 +1,21 @@
 package com.example.demoinflearnrestapi.configs;
 
 import com.example.demoinflearnrestapi.accounts.AccountService;
+import com.example.demoinflearnrestapi.accounts.PasswordHashingExceptionTranslator;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.common.exceptions.OAuth2Exception;
 import org.springframework.security.oauth2.config.annotation.configurers.ClientDetailsServiceConfigurer;
 import org.springframework.security.oauth2.config.annotation.web.configuration.AuthorizationServerConfigurerAdapter;
 import org.springframework.security.oauth2.config.annotation.web.configuration.EnableAuthorizationServer;
 import org.springframework.security.oauth2.config.annotation.web.configurers.AuthorizationServerEndpointsConfigurer;
 import org.springframework.security.oauth2.config.annotation.web.configurers.AuthorizationServerSecurityConfigurer;
+import org.springframework.security.oauth2.provider.error.OAuth2AuthenticationEntryPoint;
+import org.springframework.security.oauth2.provider.error.WebResponseExceptionTranslator;
 import org.springframework.security.oauth2.provider.token.TokenStore;
+import org.springframework.security.oauth2.provider.token.store.JwtAccessTokenConverter;
 
 @Configuration
 @EnableAuthorizationServer
@@ -19,18 +25,26 @@ public class AuthServerConfig extends AuthorizationServerConfigurerAdapter {
     private final AccountService accountService;
     private final TokenStore tokenStore;
     private final AppProperties appProperties;
+    private final ObjectProvider<JwtAccessTokenConverter> jwtAccessTokenConverter;
+    private final WebResponseExceptionTranslator<OAuth2Exception> exceptionTranslator = new PasswordHashingExceptionTranslator();
 
-    public AuthServerConfig(PasswordEncoder passwordEncoder, AuthenticationManager authenticationManager, AccountService accountService, TokenStore tokenStore, AppProperties appProperties) {
+    public AuthServerConfig(PasswordEncoder passwordEncoder, AuthenticationManager authenticationManager, AccountService accountService, TokenStore tokenStore, AppProperties appProperties, ObjectProvider<JwtAccessTokenConverter> jwtAccessTokenConverter) {
         this.passwordEncoder = passwordEncoder;
         this.authenticationManager = authenticationManager;
         this.accountService = accountService;
         this.tokenStore = tokenStore;
         this.appProperties = appProperties;
+        this.jwtAccessTokenConverter = jwtAccessTokenConverter;
     }
 
     @Override
     public void configure(AuthorizationServerSecurityConfigurer security) throws Exception {
-        security.passwordEncoder(passwordEncoder);
+        OAuth2AuthenticationEntryPoint authenticationEntryPoint = new OAuth2AuthenticationEntryPoint();
+        authenticationEntryPoint.setTypeName("Basic");
+        authenticationEntryPoint.setRealmName("oauth2/client");
+        authenticationEntryPoint.setExceptionTranslator(exceptionTranslator);
+        security.passwordEncoder(passwordEncoder)
+                .authenticationEntryPoint(authenticationEntryPoint);
     }
 
     @Override
@@ -48,6 +62,8 @@ public class AuthServerConfig extends AuthorizationServerConfigurerAdapter {
     public void configure(AuthorizationServerEndpointsConfigurer endpoints) throws Exception {
         endpoints.authenticationManager(authenticationManager)
                 .userDetailsService(accountService)
-                .tokenStore(tokenStore);
+                .tokenStore(tokenStore)
+                .exceptionTranslator(exceptionTranslator);
+        jwtAccessTokenConverter.ifAvailable(endpoints::accessTokenConverter);
     }
 }
\ No newline at end of file
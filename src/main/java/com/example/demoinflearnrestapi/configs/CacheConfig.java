@@ -0,0 +1,61 @@
+package com.example.demoinflearnrestapi.configs;
+
+import com.example.demoinflearnrestapi.accounts.Account;
+import com.example.demoinflearnrestapi.events.Event;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.ObjectUtils;
+
+import javax.cache.CacheManager;
+import java.net.URI;
+import java.util.List;
+import java.util.OptionalLong;
+
+@Configuration
+public class CacheConfig {
+    static final List<String> ENTITY_REGIONS = List.of(
+            Event.class.getName(),
+            Account.class.getName(),
+            Account.class.getName() + "##NaturalId"
+    );
+
+    /**
+     * Second-level cache regions, bounded and expiring. Hibernate owns the lifecycle and closes the
+     * manager when the {@code EntityManagerFactory} shuts down.
+     */
+    @Bean(destroyMethod = "")
+    public CacheManager entityCacheManager(EntityCacheProperties properties, ApplicationContext applicationContext) {
+        CacheManager cacheManager = new CaffeineCachingProvider()
+                .getCacheManager(URI.create("entity-cache." + applicationContext.getId() + "." + ObjectUtils.getIdentityHexString(applicationContext)), getClass().getClassLoader());
+        for (String region : ENTITY_REGIONS) {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(properties.getMaximumSize()));
+            configuration.setExpireAfterWrite(OptionalLong.of(properties.getTimeToLive().toNanos()));
+            configuration.setStatisticsEnabled(true);
+            cacheManager.createCache(region, configuration);
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheCustomizer(CacheManager entityCacheManager) {
+        return properties -> {
+            properties.put(ConfigSettings.CACHE_MANAGER, entityCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    @Bean
+    public MeterBinder entityCacheMetrics(CacheManager entityCacheManager) {
+        return registry -> ENTITY_REGIONS.forEach(region ->
+                JCacheMetrics.monitor(registry, entityCacheManager.getCache(region), Tags.of("cacheManager", "entity")));
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.demoinflearnrestapi.configs;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "entity-cache")
+public class EntityCacheProperties {
+    /**
+     * Maximum number of entries kept in each second-level cache region.
+     */
+    private long maximumSize = 10_000;
+
+    /**
+     * Entries are dropped this long after they were written, even if no update evicted them.
+     */
+    private Duration timeToLive = Duration.ofMinutes(10);
+}
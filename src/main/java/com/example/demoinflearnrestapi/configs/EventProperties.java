@@ -0,0 +1,126 @@
+package com.example.demoinflearnrestapi.configs;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Set;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "events")
+public class EventProperties {
+    private final CountCache countCache = new CountCache();
+
+    private final ResponseCache responseCache = new ResponseCache();
+
+    private final Search search = new Search();
+
+    private final StatusScheduler statusScheduler = new StatusScheduler();
+
+    /**
+     * Maximum number of events accepted by a single batch create request.
+     */
+    private int batchMaxSize = 5000;
+
+    /**
+     * JDBC fetch size of the export query. The persistence context is also cleared after this many rows.
+     */
+    private int exportFetchSize = 500;
+
+    /**
+     * Number of imported events written and flushed per transaction.
+     */
+    private int importChunkSize = 500;
+
+    /**
+     * Maximum number of rejected lines listed in an import summary.
+     */
+    private int importMaxErrors = 100;
+
+    /**
+     * Maximum size of one NDJSON line or CSV record of an import, counted in decoded characters. Longer
+     * ones are rejected as malformed without being held in memory.
+     */
+    private DataSize importMaxRecordSize = DataSize.ofKilobytes(64);
+
+    /**
+     * Deepest offset paged into by {@code GET /api/events/search} and {@code GET /api/events/overlapping}.
+     * Each page looks up every id before it, so pages starting further are returned empty.
+     */
+    private int indexedMaxOffset = 10000;
+
+    /**
+     * Maximum number of completions returned by {@code GET /api/events/locations}.
+     */
+    private int locationCompletions = 10;
+
+    @Setter
+    @Getter
+    public static class CountCache {
+        /**
+         * How often the background task checks whether the cached total must be recomputed.
+         */
+        private Duration refreshInterval = Duration.ofSeconds(5);
+
+        /**
+         * Recompute the cached total at least this often, even without local writes.
+         */
+        private Duration maxAge = Duration.ofMinutes(1);
+    }
+
+    @Setter
+    @Getter
+    public static class ResponseCache {
+        /**
+         * Total size of the serialized event bodies kept for {@code GET /api/events/{id}}.
+         */
+        private DataSize maximumSize = DataSize.ofMegabytes(16);
+
+        /**
+         * Link bases, as taken from the {@code Host} and forwarded headers of requests, whose bodies are
+         * cached. Requests with any other base are serialized every time, so arbitrary hosts cannot fill
+         * the cache.
+         */
+        private Set<String> linkBases = Set.of("http://localhost:8080/api/events");
+    }
+
+    @Setter
+    @Getter
+    public static class Search {
+        /**
+         * Where {@code GET /api/events/search} looks up matching events.
+         */
+        private Mode mode = Mode.IN_MEMORY;
+
+        public enum Mode {
+            /**
+             * An inverted index of names and descriptions held by each node, loaded at startup and updated as
+             * events are saved through the API.
+             */
+            IN_MEMORY,
+            /**
+             * A Postgres full-text query over the GIN index created by {@code db/event-search-index.sql}.
+             */
+            DATABASE
+        }
+    }
+
+    @Setter
+    @Getter
+    public static class StatusScheduler {
+        /**
+         * Whether events move along their statuses as their enrollment and event dates pass.
+         */
+        private boolean enabled = true;
+
+        /**
+         * How often the scheduler checks whether the earliest upcoming date has passed.
+         */
+        private Duration checkInterval = Duration.ofSeconds(1);
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.demoinflearnrestapi.configs;
+
+import com.example.demoinflearnrestapi.events.DatabaseEventSearch;
+import com.example.demoinflearnrestapi.events.EventSearch;
+import com.example.demoinflearnrestapi.events.InvertedEventIndex;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.persistence.EntityManager;
+
+@Configuration
+public class EventSearchConfig {
+
+    @Bean
+    public EventSearch eventSearch(EventProperties eventProperties, EntityManager entityManager) {
+        if (eventProperties.getSearch().getMode() == EventProperties.Search.Mode.DATABASE) {
+            return new DatabaseEventSearch(entityManager);
+        }
+        return new InvertedEventIndex();
+    }
+}
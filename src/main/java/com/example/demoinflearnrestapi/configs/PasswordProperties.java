@@ -0,0 +1,41 @@
+package com.example.demoinflearnrestapi.configs;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "passwords")
+public class PasswordProperties {
+    /**
+     * Threads hashing and verifying passwords.
+     */
+    private int hashingThreads = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Password checks allowed to wait for a hashing thread, twice {@code hashing-threads} by default.
+     * Further checks are answered with 503. Each queued check waits for those ahead of it, so a longer
+     * queue absorbs larger bursts but lets the last callers wait several verify times, past the point where
+     * clients would rather retry.
+     */
+    private Integer hashingQueueCapacity;
+
+    /**
+     * Strength of new bcrypt hashes, ignored when {@code bcrypt-target-verify-time} is set.
+     */
+    private int bcryptStrength = 10;
+
+    /**
+     * When set, the bcrypt strength is measured at startup as the highest one verifying within this time.
+     */
+    private Duration bcryptTargetVerifyTime;
+
+    public int getHashingQueueCapacity() {
+        return this.hashingQueueCapacity != null ? this.hashingQueueCapacity : 2 * this.hashingThreads;
+    }
+}
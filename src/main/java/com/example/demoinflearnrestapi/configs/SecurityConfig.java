@@ -1,17 +1,34 @@
 package com.example.demoinflearnrestapi.configs;
 
 import com.example.demoinflearnrestapi.accounts.AccountService;
+import com.example.demoinflearnrestapi.accounts.AccountUserAuthenticationConverter;
+import com.example.demoinflearnrestapi.accounts.BoundedTokenStore;
+import com.example.demoinflearnrestapi.accounts.JdbcExpiringTokenStore;
+import com.example.demoinflearnrestapi.accounts.TokenSweeper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.provider.token.DefaultAccessTokenConverter;
 import org.springframework.security.oauth2.provider.token.TokenStore;
 import org.springframework.security.oauth2.provider.token.store.InMemoryTokenStore;
+import org.springframework.security.oauth2.provider.token.store.JwtAccessTokenConverter;
+import org.springframework.security.oauth2.provider.token.store.JwtTokenStore;
+import org.springframework.security.oauth2.provider.token.store.KeyStoreKeyFactory;
+
+import javax.sql.DataSource;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
 
 @Configuration
 @EnableWebSecurity
@@ -25,8 +42,47 @@ public class SecurityConfig {
     }
 
     @Bean
-    public TokenStore tokenStore() {
-        return new InMemoryTokenStore();
+    public TokenStore tokenStore(TokenProperties tokenProperties, ObjectProvider<JwtAccessTokenConverter> jwtAccessTokenConverter,
+                                 ObjectProvider<DataSource> dataSource) {
+        switch (tokenProperties.getStore()) {
+            case JWT:
+                return new JwtTokenStore(jwtAccessTokenConverter.getObject());
+            case BOUNDED:
+                return new BoundedTokenStore(tokenProperties.getMaximumSize());
+            case JDBC:
+                return new JdbcExpiringTokenStore(dataSource.getObject());
+            default:
+                return new InMemoryTokenStore();
+        }
+    }
+
+    @Bean
+    public TokenSweeper tokenSweeper(TokenStore tokenStore, TaskScheduler taskScheduler, TokenProperties tokenProperties,
+                                     MeterRegistry meterRegistry) {
+        return new TokenSweeper(tokenStore, taskScheduler, tokenProperties.getSweepInterval(), meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "token", name = "store", havingValue = "jwt")
+    public JwtAccessTokenConverter jwtAccessTokenConverter(TokenProperties tokenProperties) throws NoSuchAlgorithmException {
+        DefaultAccessTokenConverter accessTokenConverter = new DefaultAccessTokenConverter();
+        accessTokenConverter.setUserTokenConverter(new AccountUserAuthenticationConverter());
+
+        JwtAccessTokenConverter jwtAccessTokenConverter = new JwtAccessTokenConverter();
+        jwtAccessTokenConverter.setKeyPair(keyPair(tokenProperties.getJwt()));
+        jwtAccessTokenConverter.setAccessTokenConverter(accessTokenConverter);
+        return jwtAccessTokenConverter;
+    }
+
+    private static KeyPair keyPair(TokenProperties.Jwt jwt) throws NoSuchAlgorithmException {
+        if (jwt.getKeyStore() == null) {
+            KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+            keyPairGenerator.initialize(2048);
+            return keyPairGenerator.generateKeyPair();
+        }
+        char[] keyStorePassword = jwt.getKeyStorePassword().toCharArray();
+        char[] keyPassword = jwt.getKeyPassword() == null ? keyStorePassword : jwt.getKeyPassword().toCharArray();
+        return new KeyStoreKeyFactory(jwt.getKeyStore(), keyStorePassword).getKeyPair(jwt.getKeyAlias(), keyPassword);
     }
 
     @Bean
@@ -0,0 +1,86 @@
+package com.example.demoinflearnrestapi.configs;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.Valid;
+import javax.validation.constraints.AssertTrue;
+import java.time.Duration;
+
+@Setter
+@Getter
+@Component
+@Validated
+@ConfigurationProperties(prefix = "token")
+public class TokenProperties {
+    /**
+     * How issued tokens are kept and verified.
+     */
+    private Store store = Store.BOUNDED;
+
+    /**
+     * Maximum number of access tokens, and of refresh tokens, kept by the bounded store.
+     */
+    private long maximumSize = 100_000;
+
+    /**
+     * How often expired tokens are removed from the bounded and JDBC stores.
+     */
+    private Duration sweepInterval = Duration.ofMinutes(1);
+
+    @Valid
+    private final Jwt jwt = new Jwt();
+
+    public enum Store {
+        /**
+         * Tokens are looked up in a map on the node that issued them.
+         */
+        IN_MEMORY,
+        /**
+         * Like {@link #IN_MEMORY}, but capped at {@code maximum-size} tokens and dropping expired ones.
+         */
+        BOUNDED,
+        /**
+         * Tokens are kept in the {@code oauth_access_token} and {@code oauth_refresh_token} tables, shared by every node.
+         */
+        JDBC,
+        /**
+         * Tokens are signed JWTs carrying the account, verified without any lookup.
+         */
+        JWT
+    }
+
+    @Setter
+    @Getter
+    public static class Jwt {
+        /**
+         * Key store holding the RSA key pair tokens are signed with. Every node must use the same one.
+         * When unset, a key pair is generated at startup, so tokens only verify on the node that issued them.
+         */
+        private Resource keyStore;
+
+        /**
+         * Password of the key store, required with {@code key-store}.
+         */
+        private String keyStorePassword;
+
+        /**
+         * Alias of the key pair in the key store, required with {@code key-store}.
+         */
+        private String keyAlias;
+
+        /**
+         * Password of the key itself, defaults to the key store password.
+         */
+        private String keyPassword;
+
+        @AssertTrue(message = "token.jwt.key-store-password and token.jwt.key-alias must be set along with token.jwt.key-store")
+        public boolean isKeyStoreComplete() {
+            return this.keyStore == null || (this.keyStorePassword != null && this.keyAlias != null);
+        }
+    }
+}
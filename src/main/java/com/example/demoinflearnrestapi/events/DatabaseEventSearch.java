@@ -0,0 +1,55 @@
+package com.example.demoinflearnrestapi.events;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link EventSearch} running a Postgres full-text query, answered from the GIN expression index created
+ * by {@code db/event-search-index.sql}. The {@code simple} configuration is used because names and
+ * descriptions mix Korean and English, and it keeps terms as {@link EventSearch#terms} splits them.
+ * Names are weighted above descriptions by {@code ts_rank}.
+ */
+public class DatabaseEventSearch implements EventSearch {
+    /**
+     * Must stay identical to the indexed expression, or Postgres falls back to a sequential scan.
+     */
+    private static final String DOCUMENT = "(setweight(to_tsvector('simple', coalesce(name, '')), 'A')"
+            + " || setweight(to_tsvector('simple', coalesce(description, '')), 'B'))";
+
+    private static final String QUERY = "select id from event"
+            + " where " + DOCUMENT + " @@ to_tsquery('simple', :query)"
+            + " order by ts_rank(" + DOCUMENT + ", to_tsquery('simple', :query)) desc, id"
+            + " limit :limit";
+
+    private final EntityManager entityManager;
+
+    public DatabaseEventSearch(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<Integer> search(String query, int limit) {
+        List<String> terms = EventSearch.terms(query);
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        List<?> rows = this.entityManager.createNativeQuery(QUERY)
+                .setParameter("query", toTsQuery(terms))
+                .setParameter("limit", limit)
+                .getResultList();
+        List<Integer> ids = new ArrayList<>(rows.size());
+        for (Object row : rows) {
+            ids.add(((Number) row).intValue());
+        }
+        return ids;
+    }
+
+    /**
+     * Terms only hold letters and digits, so they can be joined into {@code tsquery} syntax as they are.
+     */
+    static String toTsQuery(List<String> terms) {
+        return String.join(" & ", terms) + ":*";
+    }
+}
@@ -2,8 +2,14 @@ package com.example.demoinflearnrestapi.events;
 
 import com.example.demoinflearnrestapi.accounts.Account;
 import com.example.demoinflearnrestapi.accounts.AccountSerializer;
+import com.example.demoinflearnrestapi.common.PooledSequenceGenerator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.GenericGenerator;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
@@ -15,10 +21,24 @@ import java.time.LocalDateTime;
 @Builder
 @Getter
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@DynamicUpdate
+@Table(indexes = {
+        @Index(name = "event_status_begin_event_idx", columnList = "eventStatus, beginEventDateTime"),
+        @Index(name = "event_manager_begin_event_idx", columnList = "manager_id, beginEventDateTime"),
+        @Index(name = "event_begin_event_idx", columnList = "beginEventDateTime"),
+        @Index(name = "event_begin_enrollment_idx", columnList = "beginEnrollmentDateTime"),
+        @Index(name = "event_free_offline_base_price_idx", columnList = "free, offline, basePrice")
+})
 public class Event {
 
-    @Id @GeneratedValue
+    @Id
+    @GeneratedValue(generator = "pooled")
+    @GenericGenerator(name = "pooled", strategy = PooledSequenceGenerator.STRATEGY)
     private Integer id;
+    @Version
+    @JsonIgnore
+    private Long version;
     private String name;
     private String description;
     private LocalDateTime beginEnrollmentDateTime;
@@ -34,8 +54,13 @@ public class Event {
     @Enumerated(EnumType.STRING)
     private EventStatus eventStatus = EventStatus.DRAFT;
     @JsonSerialize(using = AccountSerializer.class)
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private Account manager;
+
+    public boolean isManagedBy(Account account) {
+        return account != null && this.manager != null && account.getId().equals(this.manager.getId());
+    }
+
     public void update() {
         // Update free
         this.free = this.basePrice == 0 && this.maxPrice == 0;
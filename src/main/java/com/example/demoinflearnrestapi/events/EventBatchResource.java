@@ -0,0 +1,31 @@
+package com.example.demoinflearnrestapi.events;
+
+import lombok.Getter;
+import org.springframework.hateoas.RepresentationModel;
+
+import java.util.List;
+
+/**
+ * Outcome of {@code POST /api/events/batch}. Entries refer back to the request array by index.
+ */
+@Getter
+public class EventBatchResource extends RepresentationModel<EventBatchResource> {
+    private final List<Created> created;
+    private final List<RejectedEvent> rejected;
+
+    public EventBatchResource(List<Created> created, List<RejectedEvent> rejected) {
+        this.created = created;
+        this.rejected = rejected;
+    }
+
+    @Getter
+    public static class Created {
+        private final int index;
+        private final Integer id;
+
+        public Created(int index, Integer id) {
+            this.index = index;
+            this.id = id;
+        }
+    }
+}
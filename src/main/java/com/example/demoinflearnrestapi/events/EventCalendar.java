@@ -0,0 +1,87 @@
+package com.example.demoinflearnrestapi.events;
+
+import com.example.demoinflearnrestapi.common.IntervalTree;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Answers which events are happening, or open for enrollment, during a time range from interval trees
+ * over {@code beginEventDateTime}/{@code endEventDateTime} and
+ * {@code beginEnrollmentDateTime}/{@code closeEnrollmentDateTime}.
+ */
+@Component
+public class EventCalendar implements EventIndex {
+    private final IntervalTree events = new IntervalTree();
+    private final IntervalTree enrollments = new IntervalTree();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public enum Window {
+        /**
+         * From {@code beginEventDateTime} to {@code endEventDateTime}.
+         */
+        EVENT,
+        /**
+         * From {@code beginEnrollmentDateTime} to {@code closeEnrollmentDateTime}.
+         */
+        ENROLLMENT
+    }
+
+    /**
+     * Ids of up to {@code limit} events whose window overlaps {@code [from, to)}, by start of the window
+     * and then id.
+     */
+    public List<Integer> overlapping(Window window, LocalDateTime from, LocalDateTime to, int limit) {
+        this.lock.readLock().lock();
+        try {
+            return tree(window).overlapping(toSeconds(from), toSeconds(to), limit);
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void index(Collection<Event> events) {
+        this.lock.writeLock().lock();
+        try {
+            for (Event event : events) {
+                put(this.events, event.getId(), event.getBeginEventDateTime(), event.getEndEventDateTime());
+                put(this.enrollments, event.getId(), event.getBeginEnrollmentDateTime(), event.getCloseEnrollmentDateTime());
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Integer id) {
+        this.lock.writeLock().lock();
+        try {
+            this.events.remove(id);
+            this.enrollments.remove(id);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    private IntervalTree tree(Window window) {
+        return window == Window.ENROLLMENT ? this.enrollments : this.events;
+    }
+
+    private static void put(IntervalTree tree, Integer id, LocalDateTime begin, LocalDateTime end) {
+        if (begin == null || end == null) {
+            tree.remove(id);
+        } else {
+            tree.put(id, toSeconds(begin), toSeconds(end));
+        }
+    }
+
+    private static long toSeconds(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+}
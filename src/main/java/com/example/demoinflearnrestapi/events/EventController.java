@@ -3,36 +3,86 @@ package com.example.demoinflearnrestapi.events;
 import com.example.demoinflearnrestapi.accounts.Account;
 import com.example.demoinflearnrestapi.accounts.CurrentUser;
 import com.example.demoinflearnrestapi.common.ErrorsResource;
-import org.modelmapper.ModelMapper;
+import com.example.demoinflearnrestapi.configs.EventProperties;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.web.HateoasPageableHandlerMethodArgumentResolver;
 import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.hateoas.*;
-import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.Errors;
+import org.springframework.validation.MapBindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
-
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import java.util.function.IntFunction;
 
 @RequestMapping(value = "/api/events", produces = MediaTypes.HAL_JSON_VALUE)
 @Controller
 public class EventController {
     private final EventRepository eventRepository;
-    private final ModelMapper modelMapper;
+    private final EventMapper eventMapper;
     private final EventValidator eventValidator;
+    private final EventCountCache eventCountCache;
+    private final HateoasPageableHandlerMethodArgumentResolver pageableResolver;
+    private final EventProperties eventProperties;
+    private final EventExporter eventExporter;
+    private final EventImporter eventImporter;
+    private final EventResponseCache eventResponseCache;
+    private final EventSearch eventSearch;
+    private final EventCalendar eventCalendar;
+    private final EventLocations eventLocations;
+    private final EventIndexes eventIndexes;
+    private final ObjectReader eventDtoReader;
 
-    public EventController(EventRepository eventRepository, ModelMapper modelMapper, EventValidator eventValidator) {
+    public EventController(EventRepository eventRepository, EventMapper eventMapper, EventValidator eventValidator, EventCountCache eventCountCache, HateoasPageableHandlerMethodArgumentResolver pageableResolver, EventProperties eventProperties, EventExporter eventExporter, EventImporter eventImporter, EventResponseCache eventResponseCache, EventSearch eventSearch, EventCalendar eventCalendar, EventLocations eventLocations, EventIndexes eventIndexes, ObjectMapper objectMapper) {
         this.eventRepository = eventRepository;
-        this.modelMapper = modelMapper;
+        this.eventMapper = eventMapper;
         this.eventValidator = eventValidator;
+        this.eventCountCache = eventCountCache;
+        this.pageableResolver = pageableResolver;
+        this.eventProperties = eventProperties;
+        this.eventExporter = eventExporter;
+        this.eventImporter = eventImporter;
+        this.eventResponseCache = eventResponseCache;
+        this.eventSearch = eventSearch;
+        this.eventCalendar = eventCalendar;
+        this.eventLocations = eventLocations;
+        this.eventIndexes = eventIndexes;
+        this.eventDtoReader = objectMapper.readerFor(EventDto.class);
     }
 
     @PostMapping
@@ -46,55 +96,375 @@ public class EventController {
             return badRequest(errors);
         }
 
-        Event event = modelMapper.map(eventDto, Event.class);
-        event.update();
+        Event event = this.eventMapper.toEntity(eventDto);
         event.setManager(currentUser);
         Event newEvent = this.eventRepository.save(event);
+        this.eventCountCache.invalidate();
+        this.eventIndexes.index(List.of(newEvent));
 
-        WebMvcLinkBuilder webMvcLinkBuilder = linkTo(EventController.class).slash(newEvent.getId());
         EventResource eventResource = new EventResource(newEvent);
-        eventResource.add(webMvcLinkBuilder.withRel("update-event"));
-        eventResource.add(linkTo(EventController.class).withRel("query-events"));
-        eventResource.add(Link.of("/docs/index.html#resources-events-create").withRel("profile"));
+        eventResource.add(EventLinks.event(newEvent, "update-event"));
+        eventResource.add(EventLinks.events("query-events"));
+        eventResource.add(EventLinks.profile("resources-events-create"));
 
-        URI createdUri = webMvcLinkBuilder.toUri();
+        URI createdUri = URI.create(EventLinks.event(newEvent.getId()));
 
-        return ResponseEntity.created(createdUri).body(eventResource);
+        return ResponseEntity.created(createdUri).eTag(EventEtags.of(newEvent, true)).body(eventResource);
     }
     private ResponseEntity<? extends RepresentationModel<?>> badRequest(Errors errors) {
         return ResponseEntity.badRequest().body(new ErrorsResource(errors));
     }
 
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<EventBatchResource> createEvents(HttpServletRequest request, @CurrentUser Account currentUser) throws IOException {
+        List<EventDto> eventDtos;
+        try {
+            eventDtos = readBatch(request.getInputStream());
+        } catch (JsonProcessingException exception) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (eventDtos == null) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+        }
+
+        List<Event> events = new ArrayList<>(eventDtos.size());
+        List<Integer> indexes = new ArrayList<>(eventDtos.size());
+        List<RejectedEvent> rejected = new ArrayList<>();
+        for (int index = 0; index < eventDtos.size(); index++) {
+            EventDto eventDto = eventDtos.get(index);
+            Errors errors;
+            if (eventDto == null) {
+                errors = new MapBindingResult(Collections.emptyMap(), "eventDto");
+                errors.reject("empty", "Event is empty.");
+            } else {
+                errors = this.eventValidator.validate(eventDto);
+            }
+            if (errors.hasErrors()) {
+                rejected.add(RejectedEvent.atIndex(index, errors));
+                continue;
+            }
+            Event event = this.eventMapper.toEntity(eventDto);
+            event.setManager(currentUser);
+            events.add(event);
+            indexes.add(index);
+        }
+
+        List<EventBatchResource.Created> created = new ArrayList<>(events.size());
+        if (!events.isEmpty()) {
+            List<Event> newEvents = this.eventRepository.saveAll(events);
+            this.eventCountCache.invalidate();
+            this.eventIndexes.index(newEvents);
+            for (int i = 0; i < newEvents.size(); i++) {
+                created.add(new EventBatchResource.Created(indexes.get(i), newEvents.get(i).getId()));
+            }
+        }
+
+        EventBatchResource batchResource = new EventBatchResource(created, rejected);
+        batchResource.add(EventLinks.events("batch", IanaLinkRelations.SELF_VALUE));
+        batchResource.add(EventLinks.events("query-events"));
+        batchResource.add(EventLinks.profile("resources-events-batch"));
+
+        if (created.isEmpty()) {
+            return ResponseEntity.badRequest().body(batchResource);
+        }
+        return ResponseEntity.status(rejected.isEmpty() ? HttpStatus.CREATED : HttpStatus.OK).body(batchResource);
+    }
+
+    /**
+     * Reads the events of a batch request one at a time, or returns {@code null} as soon as there are more
+     * than {@code events.batch-max-size}, so an oversized request is never deserialized as a whole.
+     */
+    private List<EventDto> readBatch(InputStream body) throws IOException {
+        int maxSize = this.eventProperties.getBatchMaxSize();
+        List<EventDto> eventDtos = new ArrayList<>();
+        try (JsonParser parser = this.eventDtoReader.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Expected an array of events");
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new JsonParseException(parser, "Unexpected end of the array of events");
+                }
+                if (eventDtos.size() == maxSize) {
+                    return null;
+                }
+                eventDtos.add(this.eventDtoReader.readValue(parser));
+            }
+        }
+        return eventDtos;
+    }
+
+    @PostMapping(value = "/import", consumes = {EventFileFormat.NDJSON_VALUE, EventFileFormat.CSV_VALUE})
+    public ResponseEntity<EventImportResource> importEvents(HttpServletRequest request, @CurrentUser Account currentUser) throws IOException {
+        MediaType contentType = MediaType.parseMediaType(request.getContentType());
+        Charset charset = contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+        EventImportResource importResource = this.eventImporter.importEvents(EventFileFormat.of(contentType), request.getInputStream(), charset, currentUser);
+        if (importResource.getAccepted() > 0) {
+            this.eventCountCache.invalidate();
+        }
+
+        importResource.add(EventLinks.events("import", IanaLinkRelations.SELF_VALUE));
+        importResource.add(EventLinks.events("query-events"));
+        importResource.add(EventLinks.profile("resources-events-import"));
+
+        if (importResource.getAccepted() == 0) {
+            return ResponseEntity.badRequest().body(importResource);
+        }
+        return ResponseEntity.status(importResource.getRejected() == 0 ? HttpStatus.CREATED : HttpStatus.OK).body(importResource);
+    }
+
     @GetMapping
-    public ResponseEntity<PagedModel<EntityModel<Event>>> queryEvents(Pageable pageable, PagedResourcesAssembler<Event> assembler, @CurrentUser Account currentUser) {
-        Page<Event> page = this.eventRepository.findAll(pageable);
-        PagedModel<EntityModel<Event>> pagedResources = assembler.toModel(page, EventResource::new);
-        pagedResources.add(Link.of("/docs/index.html#resources-events-list").withRel("profile"));
+    public ResponseEntity<? extends RepresentationModel<?>> queryEvents(Pageable pageable, EventFilter filter, @RequestParam(defaultValue = "exact") String count, PagedResourcesAssembler<Event> assembler, @CurrentUser Account currentUser, @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        boolean authenticated = currentUser != null;
+        Specification<Event> specification = filter.toSpecification();
+        if (count.equals("estimated") && specification != null) {
+            // The cached total covers every event, so filtered pages are counted exactly
+            count = "exact";
+        }
+        String etag;
+        switch (count) {
+            case "exact":
+                Page<Event> page = this.eventRepository.findAll(specification, pageable);
+                etag = EventEtags.of(page.getContent(), count, filter, pageable, page.getTotalElements(), authenticated);
+                if (EventEtags.matches(ifNoneMatch, etag)) {
+                    return notModified(etag);
+                }
+                return ResponseEntity.ok().eTag(etag).body(addListLinks(assembler.toModel(page, EventResource::new), currentUser));
+            case "estimated":
+                Slice<Event> estimated = this.eventRepository.findAllBy(null, pageable);
+                long total = Math.max(this.eventCountCache.get(), pageable.getOffset() + estimated.getNumberOfElements() + (estimated.hasNext() ? 1 : 0));
+                etag = EventEtags.of(estimated.getContent(), count, pageable, total, authenticated);
+                if (EventEtags.matches(ifNoneMatch, etag)) {
+                    return notModified(etag);
+                }
+                Page<Event> estimatedPage = new PageImpl<>(estimated.getContent(), pageable, total);
+                return ResponseEntity.ok().eTag(etag).body(addListLinks(assembler.toModel(estimatedPage, EventResource::new), currentUser));
+            case "none":
+                Slice<Event> slice = this.eventRepository.findAllBy(specification, pageable);
+                etag = EventEtags.of(slice.getContent(), count, filter, pageable, slice.hasNext(), authenticated);
+                if (EventEtags.matches(ifNoneMatch, etag)) {
+                    return notModified(etag);
+                }
+                CollectionModel<EntityModel<Event>> collection = toCollectionModel(slice.getContent());
+                collection.add(pageLink(pageable, IanaLinkRelations.SELF));
+                if (slice.hasPrevious()) {
+                    collection.add(pageLink(slice.previousPageable(), IanaLinkRelations.PREV));
+                }
+                if (slice.hasNext()) {
+                    collection.add(pageLink(slice.nextPageable(), IanaLinkRelations.NEXT));
+                }
+                return ResponseEntity.ok().eTag(etag).body(addListLinks(collection, currentUser));
+            default:
+                return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping(params = "after")
+    public ResponseEntity<?> queryEventsAfter(@RequestParam String after, Pageable pageable, EventFilter filter, @CurrentUser Account currentUser, @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return queryEventsByCursor(after, false, pageable, filter, currentUser, ifNoneMatch);
+    }
+
+    @GetMapping(params = {"before", "!after"})
+    public ResponseEntity<?> queryEventsBefore(@RequestParam String before, Pageable pageable, EventFilter filter, @CurrentUser Account currentUser, @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return queryEventsByCursor(before, true, pageable, filter, currentUser, ifNoneMatch);
+    }
+
+    private ResponseEntity<?> queryEventsByCursor(String token, boolean backward, Pageable pageable, EventFilter filter, Account currentUser, String ifNoneMatch) {
+        EventCursor cursor;
+        try {
+            cursor = token.isEmpty() ? EventCursor.first(pageable.getSort()) : EventCursor.decode(token);
+        } catch (IllegalArgumentException exception) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        int size = pageable.getPageSize();
+        List<Event> events = new ArrayList<>(this.eventRepository.findByCursor(cursor, backward, size + 1, filter.toSpecification()));
+        boolean hasMore = events.size() > size;
+        if (hasMore) {
+            events.remove(size);
+        }
+        if (backward) {
+            Collections.reverse(events);
+        }
+        String etag = EventEtags.of(events, token, backward, filter, pageable, hasMore, currentUser != null);
+        if (EventEtags.matches(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
+
+        CollectionModel<EntityModel<Event>> collection = toCollectionModel(events);
+        collection.add(Link.of(ServletUriComponentsBuilder.fromCurrentRequest().toUriString()).withSelfRel());
+        if (!events.isEmpty()) {
+            if (backward || hasMore) {
+                collection.add(cursorLink("after", cursor.at(events.get(events.size() - 1)), size, IanaLinkRelations.NEXT));
+            }
+            if (backward ? hasMore : !cursor.isFirst()) {
+                collection.add(cursorLink("before", cursor.at(events.get(0)), size, IanaLinkRelations.PREV));
+            }
+        }
+        return ResponseEntity.ok().eTag(etag).body(addListLinks(collection, currentUser));
+    }
+
+    private ResponseEntity<? extends RepresentationModel<?>> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+    }
+
+    private CollectionModel<EntityModel<Event>> toCollectionModel(List<Event> events) {
+        List<EntityModel<Event>> content = new ArrayList<>(events.size());
+        events.forEach(event -> content.add(new EventResource(event)));
+        return CollectionModel.of(content);
+    }
+
+    private <T extends RepresentationModel<?>> T addListLinks(T model, Account currentUser) {
+        model.add(EventLinks.profile("resources-events-list"));
         if (currentUser != null) {
-            pagedResources.add(linkTo(EventController.class).withRel("create-event"));
+            model.add(EventLinks.events("create-event"));
+        }
+        return model;
+    }
+
+    private Link pageLink(Pageable pageable, LinkRelation relation) {
+        UriComponentsBuilder builder = ServletUriComponentsBuilder.fromCurrentRequest();
+        this.pageableResolver.enhance(builder, null, pageable);
+        return Link.of(builder.toUriString(), relation);
+    }
+
+    private Link cursorLink(String parameter, EventCursor cursor, int size, LinkRelation relation) {
+        String href = ServletUriComponentsBuilder.fromCurrentRequest()
+                .replaceQueryParam("after")
+                .replaceQueryParam("before")
+                .replaceQueryParam("page")
+                .replaceQueryParam("sort")
+                .replaceQueryParam(parameter, cursor.encode())
+                .replaceQueryParam("size", size)
+                .toUriString();
+        return Link.of(href, relation);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<CollectionModel<EntityModel<Event>>> searchEvents(@RequestParam String q, Pageable pageable) {
+        CollectionModel<EntityModel<Event>> collection = toIndexedPage(pageable, limit -> this.eventSearch.search(q, limit));
+        collection.add(EventLinks.profile("resources-events-search"));
+        return ResponseEntity.ok(collection);
+    }
+
+    @GetMapping("/overlapping")
+    public ResponseEntity<CollectionModel<EntityModel<Event>>> queryOverlappingEvents(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from, @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to, @RequestParam(defaultValue = "event") String window, Pageable pageable) {
+        EventCalendar.Window calendarWindow;
+        try {
+            calendarWindow = EventCalendar.Window.valueOf(window.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException exception) {
+            return ResponseEntity.badRequest().build();
         }
-        return ResponseEntity.ok(pagedResources);
+        if (!from.isBefore(to)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        CollectionModel<EntityModel<Event>> collection = toIndexedPage(pageable, limit -> this.eventCalendar.overlapping(calendarWindow, from, to, limit));
+        collection.add(EventLinks.profile("resources-events-overlapping"));
+        return ResponseEntity.ok(collection);
+    }
+
+    @GetMapping("/locations")
+    public ResponseEntity<EventLocationsResource> completeLocations(@RequestParam String prefix, @RequestParam(required = false) Integer size) {
+        int limit = this.eventProperties.getLocationCompletions();
+        if (size != null) {
+            limit = Math.max(0, Math.min(size, limit));
+        }
+        EventLocationsResource locationsResource = new EventLocationsResource(this.eventLocations.complete(prefix, limit));
+        locationsResource.add(Link.of(ServletUriComponentsBuilder.fromCurrentRequest().toUriString()).withSelfRel());
+        locationsResource.add(EventLinks.profile("resources-events-locations"));
+        return ResponseEntity.ok(locationsResource);
+    }
+
+    /**
+     * Loads the page of events whose ids an in-memory index returns in order, given how many ids to return.
+     * Ids of events deleted without going through the API are removed from every index and the lookup is
+     * repeated without them. Pages are cut at {@code events.indexed-max-offset}; pages past it are empty.
+     */
+    private CollectionModel<EntityModel<Event>> toIndexedPage(Pageable pageable, IntFunction<List<Integer>> lookup) {
+        int maxOffset = this.eventProperties.getIndexedMaxOffset();
+        int offset = (int) Math.min(pageable.getOffset(), maxOffset);
+        int end = (int) Math.min(pageable.getOffset() + pageable.getPageSize(), maxOffset);
+        List<Event> events = List.of();
+        boolean hasNext = false;
+        if (offset < end) {
+            boolean stale;
+            do {
+                List<Integer> ids = lookup.apply(end + 1);
+                hasNext = ids.size() > end && end < maxOffset;
+                ids = ids.subList(Math.min(offset, ids.size()), Math.min(end, ids.size()));
+
+                Map<Integer, Event> found = new HashMap<>();
+                this.eventRepository.findAllById(ids).forEach(event -> found.put(event.getId(), event));
+                events = new ArrayList<>(ids.size());
+                stale = false;
+                for (Integer id : ids) {
+                    Event event = found.get(id);
+                    if (event != null) {
+                        events.add(event);
+                    } else {
+                        this.eventIndexes.remove(id);
+                        stale = true;
+                    }
+                }
+            } while (stale);
+        }
+
+        CollectionModel<EntityModel<Event>> collection = toCollectionModel(events);
+        collection.add(pageLink(pageable, IanaLinkRelations.SELF));
+        if (pageable.hasPrevious()) {
+            collection.add(pageLink(pageable.previousOrFirst(), IanaLinkRelations.PREV));
+        }
+        if (hasNext) {
+            collection.add(pageLink(pageable.next(), IanaLinkRelations.NEXT));
+        }
+        return collection;
+    }
+
+    @GetMapping(value = "/export", produces = {EventFileFormat.NDJSON_VALUE, EventFileFormat.CSV_VALUE})
+    public ResponseEntity<StreamingResponseBody> exportEvents(@RequestParam(defaultValue = "ndjson") String format, EventFilter filter) {
+        EventFileFormat exportFormat;
+        try {
+            exportFormat = EventFileFormat.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException exception) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        Specification<Event> specification = filter.toSpecification();
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"events." + exportFormat.name().toLowerCase(Locale.ROOT) + "\"")
+                .body(outputStream -> this.eventExporter.export(exportFormat, specification, outputStream));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<?> getEvent(@PathVariable Integer id, @CurrentUser Account currentUser) {
+    public ResponseEntity<?> getEvent(@PathVariable Integer id, @CurrentUser Account currentUser, @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         Optional<Event> optionalEvent = this.eventRepository.findById(id);
         try {
             Event event = optionalEvent.orElseThrow();
-            EventResource eventResource = new EventResource(event);
-            eventResource.add(Link.of("/docs/index.html#resources-events-get").withRel("profile"));
-            Account manager = event.getManager();
-            if (currentUser != null && manager != null && currentUser.equals(manager)) {
-                eventResource.add(linkTo(EventController.class).slash(event.getId()).withRel("update-event"));
+            boolean manageable = event.isManagedBy(currentUser);
+            String etag = EventEtags.of(event, manageable);
+            if (EventEtags.matches(ifNoneMatch, etag)) {
+                return notModified(etag);
             }
-            return ResponseEntity.ok(eventResource);
+
+            byte[] body = this.eventResponseCache.get(event, manageable, () -> {
+                EventResource eventResource = new EventResource(event);
+                eventResource.add(EventLinks.profile("resources-events-get"));
+                if (manageable) {
+                    eventResource.add(EventLinks.event(event, "update-event"));
+                }
+                return eventResource;
+            });
+            return ResponseEntity.ok().eTag(etag).contentType(MediaTypes.HAL_JSON).body(body);
         } catch (NoSuchElementException exception) {
             return ResponseEntity.notFound().build();
         }
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<?> updateEvent(@PathVariable Integer id, @RequestBody @Valid EventDto eventDto, Errors errors, @CurrentUser Account currentUser) {
+    public ResponseEntity<?> updateEvent(@PathVariable Integer id, @RequestBody @Valid EventDto eventDto, Errors errors, @CurrentUser Account currentUser, @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         if (errors.hasErrors()) {
             return badRequest(errors);
         }
@@ -107,19 +477,29 @@ public class EventController {
         Optional<Event> optionalEvent = this.eventRepository.findById(id);
         try {
             Event existingEvent = optionalEvent.orElseThrow();
-            Account manager = existingEvent.getManager();
-            if (currentUser != null && manager != null &&!currentUser.equals(manager)) {
+            if (currentUser != null && existingEvent.getManager() != null && !existingEvent.isManagedBy(currentUser)) {
                 return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
             }
-            this.modelMapper.map(eventDto, existingEvent);
+            if (ifMatch == null) {
+                return ResponseEntity.status(HttpStatus.PRECONDITION_REQUIRED).build();
+            }
+            if (!EventEtags.matchesCurrent(ifMatch, existingEvent)) {
+                return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+            }
+            this.eventMapper.update(eventDto, existingEvent);
             Event savedEvent = this.eventRepository.save(existingEvent);
+            this.eventCountCache.invalidate();
+            this.eventResponseCache.invalidate(id);
+            this.eventIndexes.index(List.of(savedEvent));
 
             EventResource eventResource = new EventResource(savedEvent);
-            eventResource.add(Link.of("/docs/index.html#resources-events-update").withRel("profile"));
+            eventResource.add(EventLinks.profile("resources-events-update"));
 
-            return ResponseEntity.ok(eventResource);
+            return ResponseEntity.ok().eTag(EventEtags.of(savedEvent, savedEvent.isManagedBy(currentUser))).body(eventResource);
         } catch (NoSuchElementException exception) {
             return ResponseEntity.notFound().build();
+        } catch (OptimisticLockingFailureException exception) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
         }
     }
 
@@ -0,0 +1,53 @@
+package com.example.demoinflearnrestapi.events;
+
+import com.example.demoinflearnrestapi.configs.EventProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Approximate total number of events for {@code GET /api/events?count=estimated}. The total is
+ * recomputed in the background after local writes invalidate it, or once it is older than the
+ * configured max age, so list requests never wait on {@code count(*)} once it has been warmed up.
+ */
+@Component
+public class EventCountCache {
+    private final EventRepository eventRepository;
+    private final EventProperties eventProperties;
+
+    private volatile long count = -1;
+    private volatile long refreshedAt;
+    private volatile boolean stale = true;
+
+    public EventCountCache(EventRepository eventRepository, EventProperties eventProperties) {
+        this.eventRepository = eventRepository;
+        this.eventProperties = eventProperties;
+    }
+
+    public long get() {
+        long count = this.count;
+        if (count < 0) {
+            return refresh();
+        }
+        return count;
+    }
+
+    public void invalidate() {
+        this.stale = true;
+    }
+
+    @Scheduled(fixedDelayString = "#{@eventProperties.countCache.refreshInterval.toMillis()}")
+    public void refreshIfStale() {
+        long age = System.currentTimeMillis() - this.refreshedAt;
+        if (this.stale || age >= this.eventProperties.getCountCache().getMaxAge().toMillis()) {
+            refresh();
+        }
+    }
+
+    public long refresh() {
+        this.stale = false;
+        long count = this.eventRepository.count();
+        this.count = count;
+        this.refreshedAt = System.currentTimeMillis();
+        return count;
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.demoinflearnrestapi.events;
+
+import lombok.Getter;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Opaque keyset position for {@code GET /api/events?after=...}: the sort column, its direction
+ * and the (sort value, id) pair of the last event seen. A null sort value is encoded by leaving the
+ * value out, so it cannot be confused with a value such as the name {@code "null"}.
+ */
+@Getter
+public class EventCursor {
+    private static final Map<String, Key> KEYS = Map.of(
+            "id", new Key(Event::getId, Integer::valueOf, false),
+            "name", new Key(Event::getName, value -> value, true),
+            "beginEnrollmentDateTime", new Key(Event::getBeginEnrollmentDateTime, LocalDateTime::parse, true),
+            "closeEnrollmentDateTime", new Key(Event::getCloseEnrollmentDateTime, LocalDateTime::parse, true),
+            "beginEventDateTime", new Key(Event::getBeginEventDateTime, LocalDateTime::parse, true),
+            "endEventDateTime", new Key(Event::getEndEventDateTime, LocalDateTime::parse, true),
+            "basePrice", new Key(Event::getBasePrice, Integer::valueOf, false),
+            "maxPrice", new Key(Event::getMaxPrice, Integer::valueOf, false),
+            "limitOfEnrollment", new Key(Event::getLimitOfEnrollment, Integer::valueOf, false)
+    );
+
+    private final String property;
+    private final Sort.Direction direction;
+    private final Comparable<?> value;
+    private final Integer id;
+
+    private EventCursor(String property, Sort.Direction direction, Comparable<?> value, Integer id) {
+        if (!KEYS.containsKey(property)) {
+            throw new IllegalArgumentException("Unsupported cursor property: " + property);
+        }
+        this.property = property;
+        this.direction = direction;
+        this.value = value;
+        this.id = id;
+    }
+
+    public static EventCursor first(Sort sort) {
+        Sort.Order order = sort.stream().findFirst().orElse(Sort.Order.asc("id"));
+        return new EventCursor(order.getProperty(), order.getDirection(), null, null);
+    }
+
+    public static EventCursor decode(String token) {
+        String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        String[] parts = decoded.split(":", 4);
+        if (parts.length < 3) {
+            throw new IllegalArgumentException("Malformed cursor: " + token);
+        }
+        Key key = KEYS.get(parts[0]);
+        if (key == null) {
+            throw new IllegalArgumentException("Unsupported cursor property: " + parts[0]);
+        }
+        try {
+            Comparable<?> value = parts.length == 4 ? key.parser.apply(parts[3]) : null;
+            return new EventCursor(parts[0], Sort.Direction.fromString(parts[1]), value, Integer.valueOf(parts[2]));
+        } catch (RuntimeException exception) {
+            throw new IllegalArgumentException("Malformed cursor: " + token, exception);
+        }
+    }
+
+    public EventCursor at(Event event) {
+        return new EventCursor(this.property, this.direction, KEYS.get(this.property).extractor.apply(event), event.getId());
+    }
+
+    public boolean isFirst() {
+        return this.id == null;
+    }
+
+    /**
+     * Whether events may have no value for the sort property.
+     */
+    public boolean isNullable() {
+        return KEYS.get(this.property).nullable;
+    }
+
+    public String encode() {
+        String raw = this.property + ":" + this.direction.name() + ":" + this.id;
+        if (this.value != null) {
+            raw += ":" + this.value;
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static class Key {
+        private final Function<Event, Comparable<?>> extractor;
+        private final Function<String, Comparable<?>> parser;
+        private final boolean nullable;
+
+        private Key(Function<Event, Comparable<?>> extractor, Function<String, Comparable<?>> parser, boolean nullable) {
+            this.extractor = extractor;
+            this.parser = parser;
+            this.nullable = nullable;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.demoinflearnrestapi.events;
+
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Strong entity tags for event representations, derived from ids and {@link Event#getVersion() versions}
+ * so they can be checked before any HAL model is assembled or serialized.
+ */
+final class EventEtags {
+
+    private EventEtags() {
+    }
+
+    /**
+     * Tag of a single event; {@code manageable} distinguishes the variant carrying the {@code update-event} link.
+     */
+    static String of(Event event, boolean manageable) {
+        return "\"" + event.getId() + "-" + event.getVersion() + (manageable ? "-m" : "") + "\"";
+    }
+
+    /**
+     * Tag of a list representation: the events on it plus whatever else shapes its body and links.
+     */
+    static String of(List<Event> events, Object... variant) {
+        StringBuilder builder = new StringBuilder();
+        for (Object part : variant) {
+            builder.append(part).append('|');
+        }
+        for (Event event : events) {
+            builder.append(event.getId()).append(':').append(event.getVersion()).append(',');
+        }
+        return "\"" + DigestUtils.md5DigestAsHex(builder.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * Whether an {@code If-Match} header value names the current version of the event, using strong
+     * comparison. Either representation variant of the event is accepted.
+     */
+    static boolean matchesCurrent(String header, Event event) {
+        String etag = of(event, false);
+        String manageableEtag = of(event, true);
+        for (String candidate : header.split(",")) {
+            candidate = candidate.trim();
+            if (candidate.equals("*") || candidate.equals(etag) || candidate.equals(manageableEtag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whether an {@code If-None-Match} style header value matches the tag, using weak comparison.
+     */
+    static boolean matches(String header, String etag) {
+        if (!StringUtils.hasText(header)) {
+            return false;
+        }
+        for (String candidate : header.split(",")) {
+            candidate = candidate.trim();
+            if (candidate.equals("*") || candidate.equals(etag) || candidate.equals("W/" + etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
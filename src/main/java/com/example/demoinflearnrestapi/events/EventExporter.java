@@ -0,0 +1,165 @@
+package com.example.demoinflearnrestapi.events;
+
+import com.example.demoinflearnrestapi.configs.EventProperties;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes events to an output stream one row at a time while reading them through
+ * {@link EventRepository#streamAll}, so memory use does not grow with the number of events exported.
+ */
+@Component
+public class EventExporter {
+    private static final String[] CSV_HEADER = {"id", "name", "description", "beginEnrollmentDateTime",
+            "closeEnrollmentDateTime", "beginEventDateTime", "endEventDateTime", "location", "basePrice",
+            "maxPrice", "limitOfEnrollment", "offline", "free", "eventStatus", "managerId"};
+
+    private final EventRepository eventRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final EventProperties eventProperties;
+
+    public EventExporter(EventRepository eventRepository, EntityManager entityManager, ObjectMapper objectMapper, PlatformTransactionManager transactionManager, EventProperties eventProperties) {
+        this.eventRepository = eventRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.eventProperties = eventProperties;
+    }
+
+    public void export(EventFileFormat format, Specification<Event> specification, OutputStream outputStream) throws IOException {
+        try {
+            this.transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<Event> events = this.eventRepository.streamAll(specification, this.eventProperties.getExportFetchSize())) {
+                    if (format == EventFileFormat.CSV) {
+                        writeCsv(events.iterator(), outputStream);
+                    } else {
+                        writeNdjson(events.iterator(), outputStream);
+                    }
+                } catch (IOException exception) {
+                    throw new UncheckedIOException(exception);
+                }
+            });
+        } catch (UncheckedIOException exception) {
+            throw exception.getCause();
+        }
+    }
+
+    private void writeNdjson(Iterator<Event> events, OutputStream outputStream) throws IOException {
+        try (JsonGenerator jsonGenerator = this.objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8)) {
+            jsonGenerator.setRootValueSeparator(null);
+            int rows = 0;
+            while (events.hasNext()) {
+                Event event = events.next();
+                jsonGenerator.writeStartObject();
+                jsonGenerator.writeNumberField("id", event.getId());
+                jsonGenerator.writeStringField("name", event.getName());
+                jsonGenerator.writeStringField("description", event.getDescription());
+                jsonGenerator.writeStringField("beginEnrollmentDateTime", format(event.getBeginEnrollmentDateTime()));
+                jsonGenerator.writeStringField("closeEnrollmentDateTime", format(event.getCloseEnrollmentDateTime()));
+                jsonGenerator.writeStringField("beginEventDateTime", format(event.getBeginEventDateTime()));
+                jsonGenerator.writeStringField("endEventDateTime", format(event.getEndEventDateTime()));
+                jsonGenerator.writeStringField("location", event.getLocation());
+                jsonGenerator.writeNumberField("basePrice", event.getBasePrice());
+                jsonGenerator.writeNumberField("maxPrice", event.getMaxPrice());
+                jsonGenerator.writeNumberField("limitOfEnrollment", event.getLimitOfEnrollment());
+                jsonGenerator.writeBooleanField("offline", event.isOffline());
+                jsonGenerator.writeBooleanField("free", event.isFree());
+                jsonGenerator.writeStringField("eventStatus", event.getEventStatus() == null ? null : event.getEventStatus().name());
+                if (event.getManager() == null) {
+                    jsonGenerator.writeNullField("manager");
+                } else {
+                    jsonGenerator.writeObjectFieldStart("manager");
+                    jsonGenerator.writeNumberField("id", event.getManager().getId());
+                    jsonGenerator.writeEndObject();
+                }
+                jsonGenerator.writeEndObject();
+                jsonGenerator.writeRaw('\n');
+                rows = release(rows);
+            }
+        }
+    }
+
+    private void writeCsv(Iterator<Event> events, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writeCsvRow(writer, (Object[]) CSV_HEADER);
+        int rows = 0;
+        while (events.hasNext()) {
+            Event event = events.next();
+            writeCsvRow(writer,
+                    event.getId(),
+                    event.getName(),
+                    event.getDescription(),
+                    format(event.getBeginEnrollmentDateTime()),
+                    format(event.getCloseEnrollmentDateTime()),
+                    format(event.getBeginEventDateTime()),
+                    format(event.getEndEventDateTime()),
+                    event.getLocation(),
+                    event.getBasePrice(),
+                    event.getMaxPrice(),
+                    event.getLimitOfEnrollment(),
+                    event.isOffline(),
+                    event.isFree(),
+                    event.getEventStatus(),
+                    event.getManager() == null ? null : event.getManager().getId());
+            rows = release(rows);
+        }
+        writer.flush();
+    }
+
+    private static void writeCsvRow(Writer writer, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = values[i];
+            if (value == null) {
+                continue;
+            }
+            String text = value.toString();
+            if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+                writer.write('"');
+                writer.write(text.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(text);
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * Drops the rows read so far from the persistence context once a fetch-size worth has been written.
+     */
+    private int release(int rows) {
+        if (++rows < this.eventProperties.getExportFetchSize()) {
+            return rows;
+        }
+        this.entityManager.clear();
+        return 0;
+    }
+
+    private static String format(LocalDateTime dateTime) {
+        return dateTime == null ? null : DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(dateTime);
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.demoinflearnrestapi.events;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Line-oriented formats events are exported to and imported from.
+ */
+public enum EventFileFormat {
+    NDJSON(MediaType.parseMediaType("application/x-ndjson")),
+    CSV(MediaType.parseMediaType("text/csv;charset=UTF-8"));
+
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+
+    public static final String CSV_VALUE = "text/csv";
+
+    private final MediaType mediaType;
+
+    EventFileFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType getMediaType() {
+        return this.mediaType;
+    }
+
+    /**
+     * The format whose media type includes the given content type, or {@code null} if none does.
+     */
+    public static EventFileFormat of(MediaType contentType) {
+        for (EventFileFormat format : values()) {
+            if (format.mediaType.isCompatibleWith(contentType)) {
+                return format;
+            }
+        }
+        return null;
+    }
+}
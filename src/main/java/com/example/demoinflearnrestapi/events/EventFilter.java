@@ -0,0 +1,94 @@
+package com.example.demoinflearnrestapi.events;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import javax.persistence.criteria.Predicate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Optional query parameters narrowing {@code GET /api/events} and its export. Every parameter that is
+ * present becomes one predicate of the SQL query; windows include {@code from} and exclude {@code to}.
+ */
+@Setter
+@Getter
+@ToString
+public class EventFilter {
+    private EventStatus eventStatus;
+    private Boolean free;
+    private Boolean offline;
+    /**
+     * Id of the managing account.
+     */
+    private Integer manager;
+    private Integer minBasePrice;
+    private Integer maxBasePrice;
+    /**
+     * Window on {@code beginEventDateTime}.
+     */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime from;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime to;
+    /**
+     * Window on {@code beginEnrollmentDateTime}.
+     */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime enrollmentFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime enrollmentTo;
+
+    public boolean isEmpty() {
+        return this.eventStatus == null && this.free == null && this.offline == null && this.manager == null
+                && this.minBasePrice == null && this.maxBasePrice == null && this.from == null && this.to == null
+                && this.enrollmentFrom == null && this.enrollmentTo == null;
+    }
+
+    /**
+     * Returns {@code null} when no parameter is set, which Spring Data reads as "no restriction".
+     */
+    public Specification<Event> toSpecification() {
+        if (isEmpty()) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (this.eventStatus != null) {
+                predicates.add(cb.equal(root.get("eventStatus"), this.eventStatus));
+            }
+            if (this.free != null) {
+                predicates.add(cb.equal(root.get("free"), this.free));
+            }
+            if (this.offline != null) {
+                predicates.add(cb.equal(root.get("offline"), this.offline));
+            }
+            if (this.manager != null) {
+                predicates.add(cb.equal(root.get("manager").get("id"), this.manager));
+            }
+            if (this.minBasePrice != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("basePrice"), this.minBasePrice));
+            }
+            if (this.maxBasePrice != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("basePrice"), this.maxBasePrice));
+            }
+            if (this.from != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("beginEventDateTime"), this.from));
+            }
+            if (this.to != null) {
+                predicates.add(cb.lessThan(root.get("beginEventDateTime"), this.to));
+            }
+            if (this.enrollmentFrom != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("beginEnrollmentDateTime"), this.enrollmentFrom));
+            }
+            if (this.enrollmentTo != null) {
+                predicates.add(cb.lessThan(root.get("beginEnrollmentDateTime"), this.enrollmentTo));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+}
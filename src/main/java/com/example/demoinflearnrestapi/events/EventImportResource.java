@@ -0,0 +1,23 @@
+package com.example.demoinflearnrestapi.events;
+
+import lombok.Getter;
+import org.springframework.hateoas.RepresentationModel;
+
+import java.util.List;
+
+/**
+ * Outcome of {@code POST /api/events/import}. Only the first rejected lines are listed; {@code rejected}
+ * counts all of them.
+ */
+@Getter
+public class EventImportResource extends RepresentationModel<EventImportResource> {
+    private final long accepted;
+    private final long rejected;
+    private final List<RejectedEvent> errors;
+
+    public EventImportResource(long accepted, long rejected, List<RejectedEvent> errors) {
+        this.accepted = accepted;
+        this.rejected = rejected;
+        this.errors = errors;
+    }
+}
@@ -0,0 +1,236 @@
+package com.example.demoinflearnrestapi.events;
+
+import com.example.demoinflearnrestapi.accounts.Account;
+import com.example.demoinflearnrestapi.common.CsvReader;
+import com.example.demoinflearnrestapi.common.LineReader;
+import com.example.demoinflearnrestapi.common.MalformedRecordException;
+import com.example.demoinflearnrestapi.configs.EventProperties;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.validation.Errors;
+import org.springframework.validation.MapBindingResult;
+
+import javax.persistence.EntityManager;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Reads events from an NDJSON or CSV upload one record at a time and saves the valid ones in chunks,
+ * each in its own transaction, clearing the persistence context in between. Only the current chunk
+ * and the capped error list are kept in memory, whatever the size of the upload; an NDJSON line is
+ * parsed as it is read, and records longer than {@code events.import-max-record-size} are rejected.
+ * <p>
+ * Properties {@link EventDto} does not have, such as the {@code id} or {@code manager} of an export,
+ * are ignored so that exported files can be imported again.
+ * <p>
+ * A chunk that fails to save, for instance because the database is unavailable, is rolled back and its
+ * lines are reported as rejected; the import goes on with the next chunk.
+ */
+@Component
+public class EventImporter {
+    private static final Logger log = LoggerFactory.getLogger(EventImporter.class);
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+
+    private final EventRepository eventRepository;
+    private final EntityManager entityManager;
+    private final EventMapper eventMapper;
+    private final EventValidator eventValidator;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader eventDtoReader;
+    private final TransactionTemplate transactionTemplate;
+    private final EventProperties eventProperties;
+    private final EventIndexes eventIndexes;
+
+    public EventImporter(EventRepository eventRepository, EntityManager entityManager, EventMapper eventMapper, EventValidator eventValidator, ObjectMapper objectMapper, PlatformTransactionManager transactionManager, EventProperties eventProperties, EventIndexes eventIndexes) {
+        this.eventRepository = eventRepository;
+        this.entityManager = entityManager;
+        this.eventMapper = eventMapper;
+        this.eventValidator = eventValidator;
+        this.objectMapper = objectMapper;
+        this.eventDtoReader = objectMapper.readerFor(EventDto.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .without(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventProperties = eventProperties;
+        this.eventIndexes = eventIndexes;
+    }
+
+    public EventImportResource importEvents(EventFileFormat format, InputStream inputStream, Charset charset, Account manager) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, charset));
+        Run run = new Run(manager);
+        if (format == EventFileFormat.CSV) {
+            readCsv(reader, run);
+        } else {
+            readNdjson(reader, run);
+        }
+        run.save();
+        return new EventImportResource(run.accepted, run.rejected, run.errors);
+    }
+
+    private void readNdjson(Reader reader, Run run) throws IOException {
+        LineReader lines = new LineReader(reader, this.eventProperties.getImportMaxRecordSize().toBytes());
+        while (lines.nextLine()) {
+            long lineNumber = lines.getLineNumber();
+            EventDto eventDto;
+            try (MappingIterator<EventDto> values = this.eventDtoReader.readValues(lines)) {
+                if (!values.hasNextValue()) {
+                    continue;
+                }
+                eventDto = values.nextValue();
+                if (values.hasNextValue()) {
+                    run.reject(lineNumber, malformed("Expected one event per line."));
+                    continue;
+                }
+            } catch (MalformedRecordException exception) {
+                run.reject(lineNumber, malformed(exception.getMessage()));
+                continue;
+            } catch (JsonProcessingException exception) {
+                run.reject(lineNumber, malformed(exception.getOriginalMessage()));
+                continue;
+            }
+            run.add(lineNumber, eventDto);
+        }
+    }
+
+    private void readCsv(Reader reader, Run run) throws IOException {
+        CsvReader csvReader = new CsvReader(reader, this.eventProperties.getImportMaxRecordSize().toBytes());
+        List<String> header;
+        try {
+            header = csvReader.read();
+        } catch (MalformedRecordException exception) {
+            run.reject(1, malformed(exception.getMessage()));
+            return;
+        }
+        if (header == null) {
+            return;
+        }
+        if (!header.isEmpty() && header.get(0).startsWith(BYTE_ORDER_MARK)) {
+            header.set(0, header.get(0).substring(1));
+        }
+
+        while (true) {
+            List<String> record;
+            try {
+                record = csvReader.read();
+            } catch (MalformedRecordException exception) {
+                run.reject(csvReader.getRecordLine(), malformed(exception.getMessage()));
+                continue;
+            }
+            if (record == null) {
+                break;
+            }
+            long lineNumber = csvReader.getRecordLine();
+            if (record.size() == 1 && record.get(0).isEmpty()) {
+                continue;
+            }
+            if (record.size() != header.size()) {
+                run.reject(lineNumber, malformed("Expected " + header.size() + " columns but found " + record.size() + "."));
+                continue;
+            }
+            ObjectNode node = this.objectMapper.createObjectNode();
+            for (int i = 0; i < record.size(); i++) {
+                if (!record.get(i).isEmpty()) {
+                    node.put(header.get(i), record.get(i));
+                }
+            }
+            EventDto eventDto;
+            try {
+                eventDto = this.eventDtoReader.readValue(node);
+            } catch (JsonMappingException exception) {
+                run.reject(lineNumber, malformed(exception.getOriginalMessage()));
+                continue;
+            }
+            run.add(lineNumber, eventDto);
+        }
+    }
+
+    private static Errors malformed(String message) {
+        return error("malformed", message);
+    }
+
+    private static Errors error(String code, String message) {
+        Errors errors = new MapBindingResult(Collections.emptyMap(), "eventDto");
+        errors.reject(code, message);
+        return errors;
+    }
+
+    private class Run {
+        private final Account manager;
+        private final List<Event> chunk = new ArrayList<>();
+        private final List<Long> chunkLines = new ArrayList<>();
+        private final List<RejectedEvent> errors = new ArrayList<>();
+        private long accepted;
+        private long rejected;
+
+        Run(Account manager) {
+            this.manager = manager;
+        }
+
+        void add(long lineNumber, EventDto eventDto) {
+            if (eventDto == null) {
+                reject(lineNumber, malformed("Event is empty."));
+                return;
+            }
+            Errors errors = eventValidator.validate(eventDto);
+            if (errors.hasErrors()) {
+                reject(lineNumber, errors);
+                return;
+            }
+            Event event = eventMapper.toEntity(eventDto);
+            event.setManager(this.manager);
+            this.chunk.add(event);
+            this.chunkLines.add(lineNumber);
+            if (this.chunk.size() >= eventProperties.getImportChunkSize()) {
+                save();
+            }
+        }
+
+        void reject(long lineNumber, Errors errors) {
+            this.rejected++;
+            if (this.errors.size() < eventProperties.getImportMaxErrors()) {
+                this.errors.add(RejectedEvent.atLine(lineNumber, errors));
+            }
+        }
+
+        void save() {
+            if (this.chunk.isEmpty()) {
+                return;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    eventRepository.saveAll(this.chunk);
+                    entityManager.flush();
+                    entityManager.clear();
+                });
+                eventIndexes.index(this.chunk);
+                this.accepted += this.chunk.size();
+            } catch (RuntimeException exception) {
+                log.warn("Could not save {} imported events", this.chunk.size(), exception);
+                Errors errors = error("not-saved", "Event could not be saved.");
+                for (long lineNumber : this.chunkLines) {
+                    reject(lineNumber, errors);
+                }
+            }
+            this.chunk.clear();
+            this.chunkLines.clear();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.demoinflearnrestapi.events;
+
+import java.util.Collection;
+
+/**
+ * In-memory structure derived from the event table. {@link EventIndexes} loads every index at startup
+ * and hands it the events saved through the API afterwards.
+ */
+public interface EventIndex {
+
+    /**
+     * Adds the events, replacing what was indexed for their ids before.
+     */
+    void index(Collection<Event> events);
+
+    void remove(Integer id);
+}
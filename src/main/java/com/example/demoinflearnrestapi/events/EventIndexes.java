@@ -0,0 +1,78 @@
+package com.example.demoinflearnrestapi.events;
+
+import com.example.demoinflearnrestapi.configs.EventProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Keeps every {@link EventIndex} in step with the event table: all of them are loaded in a single pass
+ * over {@link EventRepository#streamAll} at startup, in chunks of the export fetch size, and receive
+ * the events saved by create, update, batch and import.
+ */
+@Component
+public class EventIndexes implements InitializingBean {
+    private static final Logger log = LoggerFactory.getLogger(EventIndexes.class);
+
+    private final List<EventIndex> indexes;
+    private final EventRepository eventRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final EventProperties eventProperties;
+
+    public EventIndexes(List<EventIndex> indexes, EventRepository eventRepository, EntityManager entityManager, PlatformTransactionManager transactionManager, EventProperties eventProperties) {
+        this.indexes = indexes;
+        this.eventRepository = eventRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.eventProperties = eventProperties;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        int fetchSize = this.eventProperties.getExportFetchSize();
+        long count = this.transactionTemplate.execute(status -> {
+            try (Stream<Event> events = this.eventRepository.streamAll(null, fetchSize)) {
+                List<Event> chunk = new ArrayList<>(fetchSize);
+                long loaded = 0;
+                for (Event event : (Iterable<Event>) events::iterator) {
+                    chunk.add(event);
+                    if (chunk.size() == fetchSize) {
+                        index(chunk);
+                        loaded += chunk.size();
+                        chunk.clear();
+                        this.entityManager.clear();
+                    }
+                }
+                index(chunk);
+                return loaded + chunk.size();
+            }
+        });
+        log.info("Loaded {} events into {} indexes", count, this.indexes.size());
+    }
+
+    public void index(Collection<Event> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        for (EventIndex index : this.indexes) {
+            index.index(events);
+        }
+    }
+
+    public void remove(Integer id) {
+        for (EventIndex index : this.indexes) {
+            index.remove(id);
+        }
+    }
+}
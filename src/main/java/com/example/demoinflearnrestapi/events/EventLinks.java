@@ -0,0 +1,42 @@
+package com.example.demoinflearnrestapi.events;
+
+import com.example.demoinflearnrestapi.common.LinkBases;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+
+/**
+ * Links to event resources, appended to the per-request base of {@link EventController}.
+ */
+final class EventLinks {
+
+    private EventLinks() {
+    }
+
+    static String events() {
+        return LinkBases.of(EventController.class);
+    }
+
+    static String event(Integer id) {
+        return events() + "/" + id;
+    }
+
+    static Link self(Event event) {
+        return Link.of(event(event.getId()), IanaLinkRelations.SELF);
+    }
+
+    static Link event(Event event, String rel) {
+        return Link.of(event(event.getId()), rel);
+    }
+
+    static Link events(String rel) {
+        return Link.of(events(), rel);
+    }
+
+    static Link events(String path, String rel) {
+        return Link.of(events() + "/" + path, rel);
+    }
+
+    static Link profile(String section) {
+        return Link.of("/docs/index.html#" + section, "profile");
+    }
+}
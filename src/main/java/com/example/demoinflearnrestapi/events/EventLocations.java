@@ -0,0 +1,78 @@
+package com.example.demoinflearnrestapi.events;
+
+import com.example.demoinflearnrestapi.common.CompletionTrie;
+import com.example.demoinflearnrestapi.configs.EventProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Completes the location being typed from the locations of existing events, most used first. Locations
+ * are compared case-insensitively with runs of whitespace collapsed, and completed as first written.
+ */
+@Component
+public class EventLocations implements EventIndex {
+    private final CompletionTrie trie;
+    private final Map<Integer, String> locationByEvent = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public EventLocations(EventProperties eventProperties) {
+        this.trie = new CompletionTrie(eventProperties.getLocationCompletions());
+    }
+
+    public List<CompletionTrie.Completion> complete(String prefix, int limit) {
+        String key = normalize(prefix.stripLeading());
+        this.lock.readLock().lock();
+        try {
+            return this.trie.complete(key, limit);
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void index(Collection<Event> events) {
+        this.lock.writeLock().lock();
+        try {
+            for (Event event : events) {
+                String location = event.getLocation() == null ? "" : event.getLocation().strip();
+                String key = normalize(location);
+                String previous = key.isEmpty() ? this.locationByEvent.remove(event.getId()) : this.locationByEvent.put(event.getId(), key);
+                if (key.equals(previous)) {
+                    continue;
+                }
+                if (previous != null) {
+                    this.trie.remove(previous);
+                }
+                if (!key.isEmpty()) {
+                    this.trie.add(key, location);
+                }
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Integer id) {
+        this.lock.writeLock().lock();
+        try {
+            String previous = this.locationByEvent.remove(id);
+            if (previous != null) {
+                this.trie.remove(previous);
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    private static String normalize(String location) {
+        return location.replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
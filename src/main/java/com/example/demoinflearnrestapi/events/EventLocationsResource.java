@@ -0,0 +1,19 @@
+package com.example.demoinflearnrestapi.events;
+
+import com.example.demoinflearnrestapi.common.CompletionTrie;
+import lombok.Getter;
+import org.springframework.hateoas.RepresentationModel;
+
+import java.util.List;
+
+/**
+ * Completions of {@code GET /api/events/locations}, each with the number of events at that location.
+ */
+@Getter
+public class EventLocationsResource extends RepresentationModel<EventLocationsResource> {
+    private final List<CompletionTrie.Completion> locations;
+
+    public EventLocationsResource(List<CompletionTrie.Completion> locations) {
+        this.locations = locations;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.demoinflearnrestapi.events;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Maps {@link EventDto} onto {@link Event} without reflection. Every field of the DTO is copied, nulls
+ * included, and {@link Event#update()} is applied afterwards so {@code free} and {@code offline} follow
+ * the new values.
+ */
+@Component
+public class EventMapper {
+
+    public Event toEntity(EventDto eventDto) {
+        Event event = new Event();
+        update(eventDto, event);
+        return event;
+    }
+
+    public void update(EventDto eventDto, Event event) {
+        event.setName(eventDto.getName());
+        event.setDescription(eventDto.getDescription());
+        event.setBeginEnrollmentDateTime(eventDto.getBeginEnrollmentDateTime());
+        event.setCloseEnrollmentDateTime(eventDto.getCloseEnrollmentDateTime());
+        event.setBeginEventDateTime(eventDto.getBeginEventDateTime());
+        event.setEndEventDateTime(eventDto.getEndEventDateTime());
+        event.setLocation(eventDto.getLocation());
+        event.setBasePrice(eventDto.getBasePrice());
+        event.setMaxPrice(eventDto.getMaxPrice());
+        event.setLimitOfEnrollment(eventDto.getLimitOfEnrollment());
+        event.update();
+    }
+}
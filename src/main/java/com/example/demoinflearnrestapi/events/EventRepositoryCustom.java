@@ -0,0 +1,29 @@
+package com.example.demoinflearnrestapi.events;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface EventRepositoryCustom {
+    /**
+     * Up to {@code limit} events matching the specification strictly after the cursor in its sort order,
+     * or strictly before it (nearest first) when {@code backward} is set. No count query is issued.
+     */
+    List<Event> findByCursor(EventCursor cursor, boolean backward, int limit, Specification<Event> specification);
+
+    /**
+     * A page of events matching the specification, fetching one extra row to tell whether there is a
+     * next page instead of counting.
+     */
+    Slice<Event> findAllBy(Specification<Event> specification, Pageable pageable);
+
+    /**
+     * Every event matching the specification in id order, read lazily through a forward-only cursor
+     * with the given JDBC fetch size. Results bypass the second-level cache and are loaded read-only.
+     * Must be consumed inside a transaction and closed afterwards.
+     */
+    Stream<Event> streamAll(Specification<Event> specification, int fetchSize);
+}
@@ -0,0 +1,135 @@
+package com.example.demoinflearnrestapi.events;
+
+import org.hibernate.CacheMode;
+import org.hibernate.jpa.QueryHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+public class EventRepositoryCustomImpl implements EventRepositoryCustom {
+    private final EntityManager entityManager;
+
+    public EventRepositoryCustomImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Events without a value for the sort property come after all others, so last when ascending and first
+     * when descending, whatever the database does with nulls. They are read by a separate query ordered by
+     * id alone, so both queries can walk an index.
+     */
+    @Override
+    public List<Event> findByCursor(EventCursor cursor, boolean backward, int limit, Specification<Event> specification) {
+        boolean ascending = cursor.getDirection().isAscending() != backward;
+        EventCursor position = cursor.isFirst() ? null : cursor;
+        boolean inNulls = position != null && position.getValue() == null;
+        if (!cursor.isNullable()) {
+            return findPage(cursor, position, false, ascending, limit, specification);
+        }
+
+        List<Event> events = new ArrayList<>(limit);
+        if (ascending) {
+            if (!inNulls) {
+                events.addAll(findPage(cursor, position, false, true, limit, specification));
+            }
+            if (events.size() < limit) {
+                events.addAll(findPage(cursor, inNulls ? position : null, true, true, limit - events.size(), specification));
+            }
+        } else {
+            if (position == null || inNulls) {
+                events.addAll(findPage(cursor, position, true, false, limit, specification));
+            }
+            if (events.size() < limit) {
+                events.addAll(findPage(cursor, inNulls ? null : position, false, false, limit - events.size(), specification));
+            }
+        }
+        return events;
+    }
+
+    /**
+     * Events past {@code position}, or from the start when it is {@code null}, among those with
+     * ({@code nulls}) or without a null value for the sort property.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private List<Event> findPage(EventCursor cursor, EventCursor position, boolean nulls, boolean ascending, int limit, Specification<Event> specification) {
+        CriteriaBuilder cb = this.entityManager.getCriteriaBuilder();
+        CriteriaQuery<Event> query = cb.createQuery(Event.class);
+        Root<Event> root = query.from(Event.class);
+        Path<Comparable> key = root.get(cursor.getProperty());
+        Path<Integer> id = root.get("id");
+
+        List<Predicate> predicates = new ArrayList<>(3);
+        if (specification != null) {
+            predicates.add(specification.toPredicate(root, query, cb));
+        }
+        if (nulls) {
+            predicates.add(cb.isNull(key));
+            if (position != null) {
+                predicates.add(ascending ? cb.greaterThan(id, position.getId()) : cb.lessThan(id, position.getId()));
+            }
+            query.orderBy(ascending ? cb.asc(id) : cb.desc(id));
+        } else {
+            if (position != null) {
+                Comparable value = position.getValue();
+                predicates.add(ascending
+                        ? cb.or(cb.greaterThan(key, value), cb.and(cb.equal(key, value), cb.greaterThan(id, position.getId())))
+                        : cb.or(cb.lessThan(key, value), cb.and(cb.equal(key, value), cb.lessThan(id, position.getId()))));
+            } else if (cursor.isNullable()) {
+                predicates.add(cb.isNotNull(key));
+            }
+            query.orderBy(ascending ? cb.asc(key) : cb.desc(key), ascending ? cb.asc(id) : cb.desc(id));
+        }
+        query.where(predicates.toArray(new Predicate[0]));
+
+        return this.entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public Slice<Event> findAllBy(Specification<Event> specification, Pageable pageable) {
+        CriteriaBuilder cb = this.entityManager.getCriteriaBuilder();
+        CriteriaQuery<Event> query = cb.createQuery(Event.class);
+        Root<Event> root = query.from(Event.class);
+        if (specification != null) {
+            query.where(specification.toPredicate(root, query, cb));
+        }
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        List<Event> events = this.entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+        boolean hasNext = events.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? events.subList(0, pageable.getPageSize()) : events, pageable, hasNext);
+    }
+
+    @Override
+    public Stream<Event> streamAll(Specification<Event> specification, int fetchSize) {
+        CriteriaBuilder cb = this.entityManager.getCriteriaBuilder();
+        CriteriaQuery<Event> query = cb.createQuery(Event.class);
+        Root<Event> root = query.from(Event.class);
+        if (specification != null) {
+            query.where(specification.toPredicate(root, query, cb));
+        }
+        query.orderBy(cb.asc(root.get("id")));
+
+        return this.entityManager.createQuery(query)
+                .setHint(QueryHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(QueryHints.HINT_CACHE_MODE, CacheMode.IGNORE)
+                .setHint(QueryHints.HINT_READONLY, true)
+                .getResultStream();
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.demoinflearnrestapi.events;
+
+import com.example.demoinflearnrestapi.accounts.Account;
+import com.example.demoinflearnrestapi.accounts.AccountSerializer;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import org.springframework.boot.jackson.JsonComponent;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.hateoas.Links;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes an {@link EventResource} as HAL straight to the generator, producing the same bytes as the
+ * reflective {@code EntityModel} serializer with the HAL mixins. Links carrying anything besides an
+ * {@code href} are still written by the HAL link serializer.
+ */
+@JsonComponent
+public class EventResourceSerializer extends JsonSerializer<EventResource> {
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString NAME = new SerializedString("name");
+    private static final SerializableString DESCRIPTION = new SerializedString("description");
+    private static final SerializableString BEGIN_ENROLLMENT_DATE_TIME = new SerializedString("beginEnrollmentDateTime");
+    private static final SerializableString CLOSE_ENROLLMENT_DATE_TIME = new SerializedString("closeEnrollmentDateTime");
+    private static final SerializableString BEGIN_EVENT_DATE_TIME = new SerializedString("beginEventDateTime");
+    private static final SerializableString END_EVENT_DATE_TIME = new SerializedString("endEventDateTime");
+    private static final SerializableString LOCATION = new SerializedString("location");
+    private static final SerializableString BASE_PRICE = new SerializedString("basePrice");
+    private static final SerializableString MAX_PRICE = new SerializedString("maxPrice");
+    private static final SerializableString LIMIT_OF_ENROLLMENT = new SerializedString("limitOfEnrollment");
+    private static final SerializableString OFFLINE = new SerializedString("offline");
+    private static final SerializableString FREE = new SerializedString("free");
+    private static final SerializableString EVENT_STATUS = new SerializedString("eventStatus");
+    private static final SerializableString MANAGER = new SerializedString("manager");
+    private static final SerializableString LINKS = new SerializedString("_links");
+    private static final SerializableString HREF = new SerializedString("href");
+
+    private final AccountSerializer accountSerializer = new AccountSerializer();
+
+    @Override
+    public void serialize(EventResource eventResource, JsonGenerator jsonGenerator, SerializerProvider serializerProvider) throws IOException {
+        jsonGenerator.writeStartObject(eventResource);
+        Event event = eventResource.getContent();
+        if (event != null) {
+            writeEvent(event, jsonGenerator, serializerProvider);
+        }
+        writeLinks(eventResource.getLinks(), jsonGenerator, serializerProvider);
+        jsonGenerator.writeEndObject();
+    }
+
+    private void writeEvent(Event event, JsonGenerator jsonGenerator, SerializerProvider serializerProvider) throws IOException {
+        jsonGenerator.writeFieldName(ID);
+        if (event.getId() == null) {
+            jsonGenerator.writeNull();
+        } else {
+            jsonGenerator.writeNumber(event.getId());
+        }
+        writeString(NAME, event.getName(), jsonGenerator);
+        writeString(DESCRIPTION, event.getDescription(), jsonGenerator);
+        writeDateTime(BEGIN_ENROLLMENT_DATE_TIME, event.getBeginEnrollmentDateTime(), jsonGenerator);
+        writeDateTime(CLOSE_ENROLLMENT_DATE_TIME, event.getCloseEnrollmentDateTime(), jsonGenerator);
+        writeDateTime(BEGIN_EVENT_DATE_TIME, event.getBeginEventDateTime(), jsonGenerator);
+        writeDateTime(END_EVENT_DATE_TIME, event.getEndEventDateTime(), jsonGenerator);
+        writeString(LOCATION, event.getLocation(), jsonGenerator);
+        jsonGenerator.writeFieldName(BASE_PRICE);
+        jsonGenerator.writeNumber(event.getBasePrice());
+        jsonGenerator.writeFieldName(MAX_PRICE);
+        jsonGenerator.writeNumber(event.getMaxPrice());
+        jsonGenerator.writeFieldName(LIMIT_OF_ENROLLMENT);
+        jsonGenerator.writeNumber(event.getLimitOfEnrollment());
+        jsonGenerator.writeFieldName(OFFLINE);
+        jsonGenerator.writeBoolean(event.isOffline());
+        jsonGenerator.writeFieldName(FREE);
+        jsonGenerator.writeBoolean(event.isFree());
+        writeString(EVENT_STATUS, event.getEventStatus() == null ? null : event.getEventStatus().name(), jsonGenerator);
+        jsonGenerator.writeFieldName(MANAGER);
+        Account manager = event.getManager();
+        if (manager == null) {
+            jsonGenerator.writeNull();
+        } else {
+            this.accountSerializer.serialize(manager, jsonGenerator, serializerProvider);
+        }
+    }
+
+    /**
+     * Links grouped by relation in order of first appearance; a relation with several links becomes an array.
+     */
+    private static void writeLinks(Links links, JsonGenerator jsonGenerator, SerializerProvider serializerProvider) throws IOException {
+        if (links.isEmpty()) {
+            return;
+        }
+        Map<LinkRelation, List<Link>> byRel = new LinkedHashMap<>();
+        for (Link link : links) {
+            byRel.computeIfAbsent(link.getRel(), rel -> new ArrayList<>(1)).add(link);
+        }
+        jsonGenerator.writeFieldName(LINKS);
+        jsonGenerator.writeStartObject();
+        for (Map.Entry<LinkRelation, List<Link>> entry : byRel.entrySet()) {
+            jsonGenerator.writeFieldName(entry.getKey().value());
+            List<Link> rel = entry.getValue();
+            if (rel.size() == 1) {
+                writeLink(rel.get(0), jsonGenerator, serializerProvider);
+            } else {
+                jsonGenerator.writeStartArray();
+                for (Link link : rel) {
+                    writeLink(link, jsonGenerator, serializerProvider);
+                }
+                jsonGenerator.writeEndArray();
+            }
+        }
+        jsonGenerator.writeEndObject();
+    }
+
+    private static void writeLink(Link link, JsonGenerator jsonGenerator, SerializerProvider serializerProvider) throws IOException {
+        if (!isHrefOnly(link)) {
+            serializerProvider.defaultSerializeValue(link, jsonGenerator);
+            return;
+        }
+        jsonGenerator.writeStartObject();
+        jsonGenerator.writeFieldName(HREF);
+        jsonGenerator.writeString(link.getHref());
+        jsonGenerator.writeEndObject();
+    }
+
+    private static boolean isHrefOnly(Link link) {
+        return link.getHreflang() == null && link.getTitle() == null && link.getType() == null
+                && link.getDeprecation() == null && link.getProfile() == null && link.getName() == null
+                && !link.isTemplated();
+    }
+
+    private static void writeString(SerializableString name, String value, JsonGenerator jsonGenerator) throws IOException {
+        jsonGenerator.writeFieldName(name);
+        if (value == null) {
+            jsonGenerator.writeNull();
+        } else {
+            jsonGenerator.writeString(value);
+        }
+    }
+
+    private static void writeDateTime(SerializableString name, LocalDateTime value, JsonGenerator jsonGenerator) throws IOException {
+        writeString(name, value == null ? null : DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value), jsonGenerator);
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.demoinflearnrestapi.events;
+
+import com.example.demoinflearnrestapi.common.LinkBases;
+import com.example.demoinflearnrestapi.configs.EventProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.Value;
+import org.springframework.hateoas.mediatype.hal.HalMediaTypeConfiguration;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * HAL bodies of single events, serialized once and kept as bytes. Entries are keyed by event id and
+ * version, so an update is never served stale, and by everything else the body depends on: whether the
+ * {@code update-event} link is present and the link base of the request. The cache is bounded by the
+ * total size of the bodies, see {@code events.response-cache.maximum-size}. Link bases come from request
+ * headers, so bodies are only cached for the bases listed in {@code events.response-cache.link-bases}.
+ */
+@Component
+public class EventResponseCache implements MeterBinder {
+    private final ObjectMapper objectMapper;
+    private final Cache<Key, byte[]> responses;
+    private final Set<String> linkBases;
+
+    public EventResponseCache(ObjectMapper objectMapper, HalMediaTypeConfiguration halMediaTypeConfiguration, EventProperties eventProperties) {
+        this.objectMapper = halMediaTypeConfiguration.configureObjectMapper(objectMapper.copy());
+        this.responses = Caffeine.newBuilder()
+                .maximumWeight(eventProperties.getResponseCache().getMaximumSize().toBytes())
+                .weigher((Key key, byte[] body) -> body.length)
+                .recordStats()
+                .build();
+        this.linkBases = Set.copyOf(eventProperties.getResponseCache().getLinkBases());
+    }
+
+    /**
+     * Returns the cached body of {@code event}, or serializes and caches the resource built by
+     * {@code resource}. Must be called while handling a request.
+     */
+    public byte[] get(Event event, boolean manageable, Supplier<EventResource> resource) {
+        String base = LinkBases.of(EventController.class);
+        if (!this.linkBases.contains(base)) {
+            return serialize(resource.get());
+        }
+        Key key = new Key(event.getId(), event.getVersion(), manageable, base);
+        return this.responses.get(key, k -> serialize(resource.get()));
+    }
+
+    public void invalidate(Integer id) {
+        this.responses.asMap().keySet().removeIf(key -> key.getId().equals(id));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, this.responses, "events.responses");
+    }
+
+    private byte[] serialize(EventResource resource) {
+        try {
+            return this.objectMapper.writeValueAsBytes(resource);
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException("Could not serialize event " + resource.getContent().getId(), exception);
+        }
+    }
+
+    @Value
+    private static class Key {
+        Integer id;
+        Long version;
+        boolean manageable;
+        String base;
+    }
+}
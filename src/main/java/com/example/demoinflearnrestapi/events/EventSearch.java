@@ -0,0 +1,57 @@
+package com.example.demoinflearnrestapi.events;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Relevance ranked lookup of events by the words of their name and description, for
+ * {@code GET /api/events/search}. Every term of the query must match; the last one also matches as a
+ * prefix, so results keep up while the query is being typed.
+ */
+public interface EventSearch extends EventIndex {
+
+    /**
+     * Ids of up to {@code limit} matching events, most relevant first.
+     */
+    List<Integer> search(String query, int limit);
+
+    /**
+     * Implementations reading the database directly ignore saved events.
+     */
+    @Override
+    default void index(Collection<Event> events) {
+    }
+
+    /**
+     * Also called for ids returned by {@link #search} whose event no longer exists.
+     */
+    @Override
+    default void remove(Integer id) {
+    }
+
+    /**
+     * Lower-cased runs of letters and digits, the only terms either implementation indexes or queries.
+     */
+    static List<String> terms(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length(); ) {
+            int codePoint = i < text.length() ? text.codePointAt(i) : ' ';
+            if (Character.isLetterOrDigit(codePoint)) {
+                if (start < 0) {
+                    start = i;
+                }
+            } else if (start >= 0) {
+                terms.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+            i += i < text.length() ? Character.charCount(codePoint) : 1;
+        }
+        return terms;
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.demoinflearnrestapi.events;
+
+import com.example.demoinflearnrestapi.configs.EventProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * Moves published events along {@link EventStatus} as their enrollment and event dates pass. The dates
+ * still ahead of each indexed event are kept in a sorted set, so a check only compares the earliest one
+ * with the clock. Once it has passed, every transition is applied as one bulk update over all events
+ * due by now, in status order so an event can pass several dates at once; each update also increments
+ * the version, invalidating ETags and cached responses.
+ * <p>
+ * Drafts are not indexed, and passed dates are dropped once their updates have run, so an event must be
+ * given to {@link EventIndexes#index} again when it is published. Dates already passed by then are queued
+ * as well, and the event catches up on the next check.
+ * <p>
+ * Dates are not removed when an event changes or is deleted; a stale date only costs an update matching
+ * no rows.
+ */
+@Component
+public class EventStatusScheduler implements EventIndex, MeterBinder {
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final EventProperties eventProperties;
+    private final TreeSet<LocalDateTime> upcoming = new TreeSet<>();
+    private final Map<Transition, Counter> counters = new EnumMap<>(Transition.class);
+
+    public EventStatusScheduler(EntityManager entityManager, PlatformTransactionManager transactionManager, EventProperties eventProperties) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventProperties = eventProperties;
+    }
+
+    enum Transition {
+        BEGIN_ENROLLMENT(EventStatus.PUBLISHED, EventStatus.BEGAN_ENROLLMENT, "beginEnrollmentDateTime", Event::getBeginEnrollmentDateTime),
+        CLOSE_ENROLLMENT(EventStatus.BEGAN_ENROLLMENT, EventStatus.CLOSED_ENROLLMENT, "closeEnrollmentDateTime", Event::getCloseEnrollmentDateTime),
+        START(EventStatus.CLOSED_ENROLLMENT, EventStatus.STARTED, "beginEventDateTime", Event::getBeginEventDateTime),
+        END(EventStatus.STARTED, EventStatus.ENDED, "endEventDateTime", Event::getEndEventDateTime);
+
+        final EventStatus from;
+        final EventStatus to;
+        final Function<Event, LocalDateTime> dateTime;
+        final String update;
+
+        Transition(EventStatus from, EventStatus to, String property, Function<Event, LocalDateTime> dateTime) {
+            this.from = from;
+            this.to = to;
+            this.dateTime = dateTime;
+            // Rows saved before the version column existed have none; "update versioned" would leave it null
+            this.update = "update Event e set e.eventStatus = :to, e.version = coalesce(e.version, 0) + 1"
+                    + " where e.eventStatus = :from and e." + property + " <= :now";
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Transition transition : Transition.values()) {
+            this.counters.put(transition, Counter.builder("events.status.transitions")
+                    .description("Events moved to a status by the scheduler")
+                    .tag("status", transition.to.name())
+                    .register(registry));
+        }
+    }
+
+    @Override
+    public void index(Collection<Event> events) {
+        synchronized (this.upcoming) {
+            for (Event event : events) {
+                EventStatus status = event.getEventStatus();
+                if (status == null || status == EventStatus.DRAFT) {
+                    continue;
+                }
+                for (Transition transition : Transition.values()) {
+                    LocalDateTime dateTime = transition.dateTime.apply(event);
+                    if (transition.from.compareTo(status) >= 0 && dateTime != null) {
+                        this.upcoming.add(dateTime);
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public void remove(Integer id) {
+        // Dates are not removed, see the class documentation
+    }
+
+    @Scheduled(fixedDelayString = "#{@eventProperties.statusScheduler.checkInterval.toMillis()}")
+    public void advanceIfDue() {
+        if (this.eventProperties.getStatusScheduler().isEnabled()) {
+            advance(LocalDateTime.now());
+        }
+    }
+
+    /**
+     * Applies the transitions due by {@code now} when an indexed date has passed, returning the number of
+     * status changes.
+     */
+    public int advance(LocalDateTime now) {
+        synchronized (this.upcoming) {
+            if (this.upcoming.isEmpty() || this.upcoming.first().isAfter(now)) {
+                return 0;
+            }
+            this.upcoming.headSet(now, true).clear();
+        }
+        try {
+            return this.transactionTemplate.execute(status -> {
+                int changed = 0;
+                for (Transition transition : Transition.values()) {
+                    int updated = this.entityManager.createQuery(transition.update)
+                            .setParameter("from", transition.from)
+                            .setParameter("to", transition.to)
+                            .setParameter("now", now)
+                            .executeUpdate();
+                    Counter counter = this.counters.get(transition);
+                    if (counter != null) {
+                        counter.increment(updated);
+                    }
+                    changed += updated;
+                }
+                return changed;
+            });
+        } catch (RuntimeException exception) {
+            // Retry on the next check
+            synchronized (this.upcoming) {
+                this.upcoming.add(now);
+            }
+            throw exception;
+        }
+    }
+}
@@ -1,12 +1,33 @@
 package com.example.demoinflearnrestapi.events;
 
 import org.springframework.stereotype.Component;
+import org.springframework.validation.BeanPropertyBindingResult;
 import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
 
 import java.time.LocalDateTime;
 
 @Component
 public class EventValidator {
+    private final SmartValidator validator;
+
+    public EventValidator(SmartValidator validator) {
+        this.validator = validator;
+    }
+
+    /**
+     * Bean Validation constraints of {@link EventDto} followed by the rules of
+     * {@link #validate(EventDto, Errors)}, for events that don't come through {@code @Valid}.
+     */
+    public Errors validate(EventDto eventDto) {
+        Errors errors = new BeanPropertyBindingResult(eventDto, "eventDto");
+        this.validator.validate(eventDto, errors);
+        if (!errors.hasErrors()) {
+            validate(eventDto, errors);
+        }
+        return errors;
+    }
+
     public void validate(EventDto eventDto, Errors errors) {
         if (eventDto.getBasePrice() > eventDto.getMaxPrice() && eventDto.getMaxPrice() > 0) {
             errors.rejectValue("basePrice", "wrongValue", "BasePrice is wrong.");
@@ -0,0 +1,181 @@
+package com.example.demoinflearnrestapi.events;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process {@link EventSearch} keeping, for every term, the events it occurs in and how often. Terms
+ * are kept sorted so the prefix of the last query term is a range of the map. Matches are ranked with
+ * BM25, counting a term in the name as {@value #NAME_WEIGHT} occurrences.
+ * <p>
+ * Re-indexing an event first drops its previous terms, so updates never leave stale matches behind.
+ */
+public class InvertedEventIndex implements EventSearch {
+    static final int NAME_WEIGHT = 3;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final TreeMap<String, Map<Integer, Integer>> postings = new TreeMap<>();
+    private final Map<Integer, Document> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long totalLength;
+
+    @Override
+    public void index(Collection<Event> events) {
+        this.lock.writeLock().lock();
+        try {
+            for (Event event : events) {
+                removeDocument(event.getId());
+                addDocument(event);
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Integer id) {
+        this.lock.writeLock().lock();
+        try {
+            removeDocument(id);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        this.lock.readLock().lock();
+        try {
+            return this.documents.size();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Integer> search(String query, int limit) {
+        List<String> terms = EventSearch.terms(query);
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Map<Integer, Double> scores = null;
+        this.lock.readLock().lock();
+        try {
+            double averageLength = this.documents.isEmpty() ? 1 : (double) this.totalLength / this.documents.size();
+            for (int i = 0; i < terms.size(); i++) {
+                String term = terms.get(i);
+                Map<String, Map<Integer, Integer>> matches = i == terms.size() - 1
+                        ? this.postings.subMap(term, true, term + Character.MAX_VALUE, false)
+                        : this.postings.containsKey(term) ? Map.of(term, this.postings.get(term)) : Map.of();
+                Map<Integer, Double> termScores = score(matches, scores, averageLength);
+                if (termScores.isEmpty()) {
+                    return List.of();
+                }
+                scores = termScores;
+            }
+        } finally {
+            this.lock.readLock().unlock();
+        }
+        return top(scores, limit);
+    }
+
+    /**
+     * Scores of the events matching one query term, restricted to the events that matched every earlier
+     * term and added to their scores.
+     */
+    private Map<Integer, Double> score(Map<String, Map<Integer, Integer>> matches, Map<Integer, Double> previous, double averageLength) {
+        Map<Integer, Double> scores = new HashMap<>();
+        int count = this.documents.size();
+        for (Map<Integer, Integer> events : matches.values()) {
+            double idf = Math.log(1 + (count - events.size() + 0.5) / (events.size() + 0.5));
+            for (Map.Entry<Integer, Integer> entry : events.entrySet()) {
+                Integer id = entry.getKey();
+                if (previous != null && !previous.containsKey(id)) {
+                    continue;
+                }
+                int frequency = entry.getValue();
+                double norm = K1 * (1 - B + B * this.documents.get(id).length / averageLength);
+                double score = idf * frequency * (K1 + 1) / (frequency + norm);
+                scores.merge(id, score, Double::sum);
+            }
+        }
+        if (previous != null) {
+            scores.replaceAll((id, score) -> score + previous.get(id));
+        }
+        return scores;
+    }
+
+    private static List<Integer> top(Map<Integer, Double> scores, int limit) {
+        Comparator<Map.Entry<Integer, Double>> relevance = Map.Entry.<Integer, Double>comparingByValue()
+                .thenComparing(Map.Entry.<Integer, Double>comparingByKey().reversed());
+        PriorityQueue<Map.Entry<Integer, Double>> best = new PriorityQueue<>(Math.min(limit, scores.size()) + 1, relevance);
+        for (Map.Entry<Integer, Double> entry : scores.entrySet()) {
+            best.add(entry);
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+        List<Integer> ids = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            ids.add(best.poll().getKey());
+        }
+        Collections.reverse(ids);
+        return ids;
+    }
+
+    private void addDocument(Event event) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String term : EventSearch.terms(event.getName())) {
+            frequencies.merge(term, NAME_WEIGHT, Integer::sum);
+        }
+        for (String term : EventSearch.terms(event.getDescription())) {
+            frequencies.merge(term, 1, Integer::sum);
+        }
+        if (frequencies.isEmpty()) {
+            return;
+        }
+
+        int length = 0;
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            this.postings.computeIfAbsent(entry.getKey(), term -> new HashMap<>()).put(event.getId(), entry.getValue());
+            length += entry.getValue();
+        }
+        this.documents.put(event.getId(), new Document(frequencies.keySet().toArray(new String[0]), length));
+        this.totalLength += length;
+    }
+
+    private void removeDocument(Integer id) {
+        Document document = this.documents.remove(id);
+        if (document == null) {
+            return;
+        }
+        for (String term : document.terms) {
+            Map<Integer, Integer> events = this.postings.get(term);
+            events.remove(id);
+            if (events.isEmpty()) {
+                this.postings.remove(term);
+            }
+        }
+        this.totalLength -= document.length;
+    }
+
+    private static class Document {
+        final String[] terms;
+        final int length;
+
+        Document(String[] terms, int length) {
+            this.terms = terms;
+            this.length = length;
+        }
+    }
+}
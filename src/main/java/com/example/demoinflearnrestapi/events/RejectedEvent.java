@@ -0,0 +1,51 @@
+package com.example.demoinflearnrestapi.events;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import org.springframework.validation.Errors;
+
+import java.io.IOException;
+
+/**
+ * An event left out of a bulk request, written as {@code {"index": ..., "errors": [...]}} (or
+ * {@code "line"} for file imports). The {@code errors} array comes from whatever serializer is
+ * registered for {@link Errors}, so each entry matches a single-event error response.
+ */
+public class RejectedEvent extends JsonSerializable.Base {
+    private final String positionName;
+    private final long position;
+    private final Errors errors;
+
+    private RejectedEvent(String positionName, long position, Errors errors) {
+        this.positionName = positionName;
+        this.position = position;
+        this.errors = errors;
+    }
+
+    public static RejectedEvent atIndex(int index, Errors errors) {
+        return new RejectedEvent("index", index, errors);
+    }
+
+    public static RejectedEvent atLine(long line, Errors errors) {
+        return new RejectedEvent("line", line, errors);
+    }
+
+    public Errors getErrors() {
+        return this.errors;
+    }
+
+    @Override
+    public void serialize(JsonGenerator jsonGenerator, SerializerProvider serializerProvider) throws IOException {
+        jsonGenerator.writeStartObject();
+        jsonGenerator.writeNumberField(this.positionName, this.position);
+        serializerProvider.findValueSerializer(this.errors.getClass()).serialize(this.errors, jsonGenerator, serializerProvider);
+        jsonGenerator.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator jsonGenerator, SerializerProvider serializerProvider, TypeSerializer typeSerializer) throws IOException {
+        serialize(jsonGenerator, serializerProvider);
+    }
+}
@@ -9,8 +9,9 @@ import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 
 @RestController
 public class IndexController {
+    public static final String PATH = "/api";
 
-    @GetMapping("/api")
+    @GetMapping(PATH)
     public RepresentationModel index() {
         var index = new RepresentationModel<>();
         index.add(linkTo(EventController.class).withRel("event"));
@@ -0,0 +1,13 @@
+-- Moves account roles from the account_roles collection table into the account.roles bitmask.
+-- Bits match AccountRole: ADMIN = 1, USER = 2.
+alter table account add column if not exists roles integer;
+
+update account
+set roles = coalesce((select sum(distinct case ar.roles when 'ADMIN' then 1 when 'USER' then 2 else 0 end)
+                      from account_roles ar
+                      where ar.account_id = account.id), 0)
+where roles is null;
+
+alter table account alter column roles set not null;
+
+drop table account_roles;
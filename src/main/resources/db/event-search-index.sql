@@ -0,0 +1,5 @@
+-- Full-text index for events.search.mode=database. The expression must match DatabaseEventSearch.
+create index if not exists event_search_idx on event using gin (
+    (setweight(to_tsvector('simple', coalesce(name, '')), 'A')
+        || setweight(to_tsvector('simple', coalesce(description, '')), 'B'))
+);
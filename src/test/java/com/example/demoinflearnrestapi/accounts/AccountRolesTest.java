@@ -0,0 +1,52 @@
+package com.example.demoinflearnrestapi.accounts;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AccountRolesTest {
+
+    private final AccountRoles accountRoles = new AccountRoles();
+
+    @DisplayName("역할 집합을 비트마스크로 저장하고 다시 읽기")
+    @Test
+    public void roundTrip() {
+        // Given
+        Set<AccountRole> roles = Set.of(AccountRole.ADMIN, AccountRole.USER);
+
+        // When
+        Integer mask = this.accountRoles.convertToDatabaseColumn(roles);
+
+        // Then
+        assertThat(mask).isEqualTo(3);
+        assertThat(this.accountRoles.convertToEntityAttribute(mask)).isEqualTo(roles);
+        assertThat(this.accountRoles.convertToEntityAttribute(this.accountRoles.convertToDatabaseColumn(null))).isEmpty();
+    }
+
+    @DisplayName("같은 역할 집합은 미리 만든 권한 집합을 공유한다")
+    @Test
+    public void sharedAuthorities() {
+        // When
+        var authorities = AccountRoles.authorities(Set.of(AccountRole.USER));
+
+        // Then
+        assertThat(AuthorityUtils.authorityListToSet(authorities)).containsExactly("ROLE_USER");
+        assertThat(AccountRoles.authorities(AccountRoles.roles(2))).isSameAs(authorities);
+    }
+
+    @DisplayName("역할에 쓰지 않는 비트는 무시한다")
+    @Test
+    public void ignoreUnknownBits() {
+        // Given
+        int unknown = 1 << 20 | 1 << 31;
+
+        // When & Then
+        assertThat(AccountRoles.roles(unknown)).isEmpty();
+        assertThat(AccountRoles.roles(unknown | AccountRole.USER.bit())).isSameAs(AccountRoles.roles(AccountRole.USER.bit()));
+        assertThat(AccountRoles.roles(-1)).containsExactlyInAnyOrder(AccountRole.values());
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.demoinflearnrestapi.accounts;
 
 import com.example.demoinflearnrestapi.common.BaseTest;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -21,6 +22,9 @@ public class AccountServiceTest extends BaseTest {
     @Autowired
     PasswordEncoder passwordEncoder;
 
+    @Autowired
+    MeterRegistry meterRegistry;
+
     @DisplayName("이메일로 사용자 찾기")
     @Test
     public void findByUserEmail() {
@@ -41,6 +45,15 @@ public class AccountServiceTest extends BaseTest {
         assertThat(this.passwordEncoder.matches(password, userDetails.getPassword())).isTrue();
     }
 
+    @DisplayName("bcrypt가 아닌 방식으로 저장된 비밀번호도 확인하기")
+    @Test
+    public void matchesOtherEncodings() {
+        assertThat(this.passwordEncoder.matches("password", "{noop}password")).isTrue();
+        assertThat(this.passwordEncoder.matches("wrong", "{noop}password")).isFalse();
+        assertThat(this.passwordEncoder.upgradeEncoding("{noop}password")).isTrue();
+        assertThat(this.passwordEncoder.encode("password")).startsWith("{bcrypt}");
+    }
+
     @DisplayName("이메일로 사용자 찾기 실패")
     @Test
     public void findByUserEmailFail() {
@@ -55,4 +68,34 @@ public class AccountServiceTest extends BaseTest {
             assertThat(exception.getMessage()).containsSequence(email);
         }
     }
-}
\ No newline at end of file
+
+    @DisplayName("캐시된 사용자는 복사본으로 받고 계정을 저장하면 다시 읽는다")
+    @Test
+    public void loadCachedUser() {
+        // Given
+        String email = "testCache@email.com";
+        Account account = this.accountService.saveAccount(Account.builder()
+                .email(email)
+                .password("before1234")
+                .roles(Set.of(AccountRole.USER))
+                .build());
+        double hits = this.meterRegistry.get("cache.gets").tag("cache", "accounts.users").tag("result", "hit")
+                .functionCounter().count();
+
+        // When
+        AccountAdapter first = (AccountAdapter) this.accountService.loadUserByUsername(email);
+        first.eraseCredentials();
+        AccountAdapter second = (AccountAdapter) this.accountService.loadUserByUsername(email);
+        account.setPassword("after1234");
+        this.accountService.saveAccount(account);
+        UserDetails third = this.accountService.loadUserByUsername(email);
+
+        // Then
+        assertThat(second).isNotSameAs(first);
+        assertThat(this.passwordEncoder.matches("before1234", second.getPassword())).isTrue();
+        assertThat(second.getAccount().getId()).isEqualTo(account.getId());
+        assertThat(this.passwordEncoder.matches("after1234", third.getPassword())).isTrue();
+        assertThat(this.meterRegistry.get("cache.gets").tag("cache", "accounts.users").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(hits + 1);
+    }
+}
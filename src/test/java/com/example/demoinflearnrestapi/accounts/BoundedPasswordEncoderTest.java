@@ -0,0 +1,85 @@
+package com.example.demoinflearnrestapi.accounts;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.common.exceptions.OAuth2Exception;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BoundedPasswordEncoderTest {
+
+    @DisplayName("대기열이 가득 차면 바로 거절한다")
+    @Test
+    public void rejectWhenSaturated() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        BoundedPasswordEncoder passwordEncoder = new BoundedPasswordEncoder(blockingEncoder(started, release), 1, 1);
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> passwordEncoder.matches("a", "a"));
+        started.await(5, TimeUnit.SECONDS);
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> passwordEncoder.matches("b", "b"));
+        while (!queued.isDone() && passwordEncoder.queuedTasks() == 0) {
+            Thread.onSpinWait();
+        }
+
+        // When && Then
+        assertThatThrownBy(() -> passwordEncoder.matches("c", "c")).isInstanceOf(PasswordHashingRejectedException.class);
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+        passwordEncoder.destroy();
+    }
+
+    @DisplayName("거절은 503 temporarily_unavailable 응답으로 바뀐다")
+    @Test
+    public void translateRejection() throws Exception {
+        // Given
+        PasswordHashingExceptionTranslator translator = new PasswordHashingExceptionTranslator();
+
+        // When
+        ResponseEntity<OAuth2Exception> response = translator.translate(new PasswordHashingRejectedException("busy", null));
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isNotNull();
+        assertThat(response.getBody().getOAuth2ErrorCode()).isEqualTo("temporarily_unavailable");
+    }
+
+    @DisplayName("목표 검증 시간이 아주 짧으면 가장 낮은 bcrypt 강도를 고른다")
+    @Test
+    public void calibrateMinimumStrength() {
+        assertThat(BCryptStrength.calibrate(Duration.ZERO)).isEqualTo(BCryptStrength.MIN);
+    }
+
+    @SuppressWarnings("deprecation")
+    private static PasswordEncoder blockingEncoder(CountDownLatch started, CountDownLatch release) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return NoOpPasswordEncoder.getInstance().encode(rawPassword);
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return NoOpPasswordEncoder.getInstance().matches(rawPassword, encodedPassword);
+            }
+        };
+    }
+}
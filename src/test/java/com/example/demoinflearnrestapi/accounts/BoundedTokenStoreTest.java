@@ -0,0 +1,88 @@
+package com.example.demoinflearnrestapi.accounts;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.oauth2.common.DefaultExpiringOAuth2RefreshToken;
+import org.springframework.security.oauth2.common.DefaultOAuth2AccessToken;
+import org.springframework.security.oauth2.common.OAuth2RefreshToken;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.OAuth2Request;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BoundedTokenStoreTest {
+
+    @DisplayName("만료된 토큰은 조회되지 않고 정리하면 사라진다")
+    @Test
+    public void removeExpired() {
+        // Given
+        BoundedTokenStore tokenStore = new BoundedTokenStore(10);
+        tokenStore.storeAccessToken(accessToken("expired", -1000, null), authentication("expired@email.com"));
+        tokenStore.storeAccessToken(accessToken("valid", 60_000, null), authentication("valid@email.com"));
+
+        // When
+        tokenStore.removeExpired();
+
+        // Then
+        assertThat(tokenStore.readAccessToken("expired")).isNull();
+        assertThat(tokenStore.getAccessToken(authentication("expired@email.com"))).isNull();
+        assertThat(tokenStore.readAccessToken("valid")).isNotNull();
+        assertThat(tokenStore.getAccessToken(authentication("valid@email.com")).getValue()).isEqualTo("valid");
+        assertThat(tokenStore.countAccessTokens()).isEqualTo(1);
+    }
+
+    @DisplayName("최대 개수를 넘으면 토큰을 버린다")
+    @Test
+    public void maximumSize() {
+        // Given
+        BoundedTokenStore tokenStore = new BoundedTokenStore(10);
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            tokenStore.storeAccessToken(accessToken("token" + i, 60_000, null), authentication("user" + i + "@email.com"));
+        }
+        tokenStore.removeExpired();
+
+        // Then
+        assertThat(tokenStore.countAccessTokens()).isEqualTo(10);
+    }
+
+    @DisplayName("리프레시 토큰으로 액세스 토큰 지우기")
+    @Test
+    public void removeAccessTokenUsingRefreshToken() {
+        // Given
+        BoundedTokenStore tokenStore = new BoundedTokenStore(10);
+        OAuth2RefreshToken refreshToken = new DefaultExpiringOAuth2RefreshToken("refresh", new Date(System.currentTimeMillis() + 60_000));
+        OAuth2Authentication authentication = authentication("user@email.com");
+        tokenStore.storeRefreshToken(refreshToken, authentication);
+        tokenStore.storeAccessToken(accessToken("access", 60_000, refreshToken), authentication);
+
+        // When
+        tokenStore.removeAccessTokenUsingRefreshToken(refreshToken);
+
+        // Then
+        assertThat(tokenStore.readAccessToken("access")).isNull();
+        assertThat(tokenStore.readRefreshToken("refresh")).isNotNull();
+        assertThat(tokenStore.readAuthenticationForRefreshToken(refreshToken).getName()).isEqualTo("user@email.com");
+    }
+
+    private static DefaultOAuth2AccessToken accessToken(String value, long expiresInMillis, OAuth2RefreshToken refreshToken) {
+        DefaultOAuth2AccessToken accessToken = new DefaultOAuth2AccessToken(value);
+        accessToken.setExpiration(new Date(System.currentTimeMillis() + expiresInMillis));
+        accessToken.setRefreshToken(refreshToken);
+        return accessToken;
+    }
+
+    private static OAuth2Authentication authentication(String username) {
+        OAuth2Request request = new OAuth2Request(Map.of(), "testClient", AuthorityUtils.NO_AUTHORITIES, true,
+                Set.of("read"), null, null, null, null);
+        return new OAuth2Authentication(request, new UsernamePasswordAuthenticationToken(username, "N/A",
+                AuthorityUtils.createAuthorityList("ROLE_USER")));
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.demoinflearnrestapi.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CompletionTrieTest {
+
+    @DisplayName("접두사로 시작하는 키를 많이 센 순서대로 완성한다")
+    @Test
+    public void complete() {
+        // Given
+        CompletionTrie trie = new CompletionTrie(3);
+        trie.add("상도동", "상도동");
+        trie.add("상도동 리치빈스", "상도동 리치빈스");
+        trie.add("상도동 리치빈스", "상도동 리치빈스");
+        trie.add("상수동", "상수동");
+        trie.add("강남역", "강남역");
+        trie.add("강남역", "강남역");
+        trie.add("강남역", "강남역");
+
+        // When & Then
+        assertThat(values(trie.complete("상", 10))).containsExactly("상도동 리치빈스", "상도동", "상수동");
+        assertThat(trie.complete("상", 10).get(0).getCount()).isEqualTo(2);
+        assertThat(values(trie.complete("상도동 ", 10))).containsExactly("상도동 리치빈스");
+        assertThat(values(trie.complete("", 10))).containsExactly("강남역", "상도동 리치빈스", "상도동");
+        assertThat(values(trie.complete("상", 1))).containsExactly("상도동 리치빈스");
+        assertThat(trie.complete("홍대", 10)).isEmpty();
+    }
+
+    @DisplayName("다 지운 키는 더 이상 완성하지 않는다")
+    @Test
+    public void remove() {
+        // Given
+        CompletionTrie trie = new CompletionTrie(3);
+        trie.add("sangdo", "Sangdo");
+        trie.add("sangdo", "sangdo");
+        trie.add("sangsu", "Sangsu");
+
+        // When
+        trie.remove("sangdo");
+        trie.remove("sangsu");
+        trie.remove("gangnam");
+
+        // Then
+        assertThat(trie.complete("san", 10)).hasSize(1);
+        assertThat(trie.complete("san", 10).get(0).getValue()).isEqualTo("Sangdo");
+        assertThat(trie.complete("sangs", 10)).isEmpty();
+    }
+
+    @DisplayName("무작위로 더하고 빼도 전체를 센 결과와 같다")
+    @Test
+    public void matchesCount() {
+        // Given
+        Random random = new Random(42);
+        CompletionTrie trie = new CompletionTrie(5);
+        Map<String, Integer> counts = new HashMap<>();
+        String[] keys = new String[300];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = Integer.toString(random.nextInt(2000), 7);
+        }
+        for (int i = 0; i < 20_000; i++) {
+            String key = keys[random.nextInt(keys.length)];
+            if (random.nextInt(3) == 0) {
+                trie.remove(key);
+                counts.computeIfPresent(key, (k, count) -> count == 1 ? null : count - 1);
+            } else {
+                trie.add(key, key);
+                counts.merge(key, 1, Integer::sum);
+            }
+        }
+
+        // When & Then
+        for (String prefix : List.of("", "1", "2", "10", "34", "123")) {
+            List<String> expected = counts.entrySet().stream()
+                    .filter(entry -> entry.getKey().startsWith(prefix))
+                    .sorted(Map.Entry.<String, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                    .limit(5)
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toList());
+            assertThat(values(trie.complete(prefix, 5))).isEqualTo(expected);
+        }
+    }
+
+    private static List<String> values(List<CompletionTrie.Completion> completions) {
+        List<String> values = new ArrayList<>();
+        completions.forEach(completion -> values.add(completion.getValue()));
+        return values;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.demoinflearnrestapi.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CsvReaderTest {
+
+    @DisplayName("너무 긴 레코드는 건너뛰고 다음 레코드부터 읽는다")
+    @Test
+    public void skipRecordLongerThanMaximum() throws Exception {
+        // Given
+        CsvReader reader = new CsvReader(new StringReader("a,b\r\n\"" + "x".repeat(20) + "\",\"y\ny\"\r\nc,\"d\"\"\"\r\n"), 10);
+
+        // When & Then
+        assertThat(reader.read()).containsExactly("a", "b");
+        assertThatThrownBy(reader::read)
+                .isInstanceOf(MalformedRecordException.class)
+                .hasMessageContaining("10 characters");
+        assertThat(reader.getRecordLine()).isEqualTo(2);
+        assertThat(reader.read()).containsExactly("c", "d\"");
+        assertThat(reader.getRecordLine()).isEqualTo(4);
+        assertThat(reader.read()).isNull();
+    }
+
+    @DisplayName("닫히지 않은 따옴표로 끝나는 입력은 잘못된 레코드다")
+    @Test
+    public void rejectUnterminatedQuote() throws Exception {
+        // Given
+        CsvReader reader = new CsvReader(new StringReader("a,b\nc,\"d\ne"), 100);
+
+        // When & Then
+        assertThat(reader.read()).containsExactly("a", "b");
+        assertThatThrownBy(reader::read).isInstanceOf(MalformedRecordException.class);
+        assertThat(reader.read()).isNull();
+    }
+}
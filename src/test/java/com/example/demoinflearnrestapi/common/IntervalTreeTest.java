@@ -0,0 +1,88 @@
+package com.example.demoinflearnrestapi.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IntervalTreeTest {
+
+    @DisplayName("겹치는 구간을 시작 순서대로 찾는다")
+    @Test
+    public void overlapping() {
+        // Given
+        IntervalTree tree = new IntervalTree();
+        tree.put(1, 0, 10);
+        tree.put(2, 5, 6);
+        tree.put(3, 10, 20);
+        tree.put(4, 2, 30);
+
+        // When & Then
+        assertThat(tree.overlapping(5, 11, 10)).containsExactly(1, 4, 2, 3);
+        assertThat(tree.overlapping(10, 11, 10)).containsExactly(4, 3);
+        assertThat(tree.overlapping(20, 25, 10)).containsExactly(4);
+        assertThat(tree.overlapping(30, 40, 10)).isEmpty();
+        assertThat(tree.overlapping(5, 11, 2)).containsExactly(1, 4);
+    }
+
+    @DisplayName("같은 id로 다시 넣거나 지우면 이전 구간으로는 찾지 않는다")
+    @Test
+    public void putReplacesAndRemoveDrops() {
+        // Given
+        IntervalTree tree = new IntervalTree();
+        tree.put(1, 0, 10);
+        tree.put(2, 20, 30);
+
+        // When
+        tree.put(1, 40, 50);
+        tree.remove(2);
+
+        // Then
+        assertThat(tree.overlapping(0, 35, 10)).isEmpty();
+        assertThat(tree.overlapping(45, 46, 10)).containsExactly(1);
+        assertThat(tree.size()).isEqualTo(1);
+        assertThat(tree.remove(2)).isFalse();
+    }
+
+    @DisplayName("무작위로 넣고 지워도 전체를 훑은 결과와 같다")
+    @Test
+    public void matchesScan() {
+        // Given
+        Random random = new Random(42);
+        IntervalTree tree = new IntervalTree();
+        Map<Integer, long[]> intervals = new HashMap<>();
+        for (int i = 0; i < 5000; i++) {
+            int id = random.nextInt(1000);
+            if (random.nextInt(4) == 0) {
+                tree.remove(id);
+                intervals.remove(id);
+            } else {
+                long start = random.nextInt(10_000);
+                long end = start + 1 + random.nextInt(500);
+                tree.put(id, start, end);
+                intervals.put(id, new long[]{start, end});
+            }
+        }
+
+        // When & Then
+        assertThat(tree.size()).isEqualTo(intervals.size());
+        for (int i = 0; i < 200; i++) {
+            long from = random.nextInt(10_500);
+            long to = from + 1 + random.nextInt(1000);
+            List<Integer> expected = new ArrayList<>();
+            intervals.entrySet().stream()
+                    .filter(entry -> entry.getValue()[0] < to && entry.getValue()[1] > from)
+                    .sorted((a, b) -> a.getValue()[0] != b.getValue()[0]
+                            ? Long.compare(a.getValue()[0], b.getValue()[0])
+                            : Integer.compare(a.getKey(), b.getKey()))
+                    .forEach(entry -> expected.add(entry.getKey()));
+            assertThat(tree.overlapping(from, to, Integer.MAX_VALUE)).isEqualTo(expected);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.demoinflearnrestapi.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class LineReaderTest {
+
+    @DisplayName("한 줄씩 읽고, 너무 긴 줄은 나머지를 건너뛴다")
+    @Test
+    public void readLinesSkippingLongOnes() throws Exception {
+        // Given
+        LineReader reader = new LineReader(new StringReader("first\n" + "x".repeat(20000) + "\n\nlast"), 10);
+
+        // When & Then
+        assertThat(reader.nextLine()).isTrue();
+        assertThat(readLine(reader)).isEqualTo("first");
+        assertThat(reader.nextLine()).isTrue();
+        assertThatThrownBy(() -> readLine(reader)).isInstanceOf(MalformedRecordException.class);
+        assertThat(reader.nextLine()).isTrue();
+        assertThat(readLine(reader)).isEmpty();
+        assertThat(reader.nextLine()).isTrue();
+        assertThat(readLine(reader)).isEqualTo("last");
+        assertThat(reader.getLineNumber()).isEqualTo(4);
+        assertThat(reader.nextLine()).isFalse();
+    }
+
+    private static String readLine(LineReader reader) throws IOException {
+        StringBuilder line = new StringBuilder();
+        char[] chars = new char[3];
+        int count;
+        while ((count = reader.read(chars, 0, chars.length)) != -1) {
+            line.append(chars, 0, count);
+        }
+        return line.toString();
+    }
+}
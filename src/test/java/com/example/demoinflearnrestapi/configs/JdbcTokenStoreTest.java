@@ -0,0 +1,127 @@
+package com.example.demoinflearnrestapi.configs;
+
+import com.example.demoinflearnrestapi.accounts.Account;
+import com.example.demoinflearnrestapi.accounts.AccountRepository;
+import com.example.demoinflearnrestapi.accounts.AccountRole;
+import com.example.demoinflearnrestapi.accounts.AccountService;
+import com.example.demoinflearnrestapi.accounts.JdbcExpiringTokenStore;
+import com.example.demoinflearnrestapi.accounts.TokenSweeper;
+import com.example.demoinflearnrestapi.common.BaseTest;
+import com.example.demoinflearnrestapi.events.EventRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.oauth2.common.DefaultOAuth2AccessToken;
+import org.springframework.security.oauth2.common.util.Jackson2JsonParser;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.token.TokenStore;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Date;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@TestPropertySource(properties = {
+        "token.store=jdbc",
+        "spring.datasource.url=jdbc:h2:mem:jdbc-token",
+        "spring.datasource.hikari.jdbc-url=jdbc:h2:mem:jdbc-token",
+        "spring.sql.init.mode=always",
+        "spring.sql.init.schema-locations=classpath:db/oauth-token-schema.sql"
+})
+public class JdbcTokenStoreTest extends BaseTest {
+
+    @Autowired
+    AccountService accountService;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    AppProperties appProperties;
+
+    @Autowired
+    TokenStore tokenStore;
+
+    @Autowired
+    TokenSweeper tokenSweeper;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        this.jdbcTemplate.update("delete from oauth_access_token");
+        this.jdbcTemplate.update("delete from oauth_refresh_token");
+        this.eventRepository.deleteAll();
+        this.accountRepository.deleteAll();
+        this.accountService.saveAccount(Account.builder()
+                .email("jdbc@email.com")
+                .password("jdbc1234")
+                .roles(Set.of(AccountRole.USER))
+                .build());
+    }
+
+    @DisplayName("JDBC 저장소에 저장된 토큰으로 인증하기")
+    @Test
+    public void authenticateWithStoredToken() throws Exception {
+        // Given
+        String accessToken = getAccessToken();
+
+        // When && Then
+        assertThat(this.tokenStore).isInstanceOf(JdbcExpiringTokenStore.class);
+        assertThat(this.jdbcTemplate.queryForObject(
+                "select count(*) from oauth_access_token where expiration is not null", Long.class)).isEqualTo(1);
+        this.mockMvc.perform(get("/api/events/")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                .accept(MediaTypes.HAL_JSON_VALUE))
+                .andExpect(status().isOk());
+    }
+
+    @DisplayName("만료된 토큰은 정리할 때 지워진다")
+    @Test
+    public void sweepExpiredTokens() throws Exception {
+        // Given
+        String accessToken = getAccessToken();
+        OAuth2Authentication authentication = this.tokenStore.readAuthentication(accessToken);
+        this.tokenStore.removeAccessToken(this.tokenStore.readAccessToken(accessToken));
+        DefaultOAuth2AccessToken expired = new DefaultOAuth2AccessToken("expired");
+        expired.setExpiration(new Date(System.currentTimeMillis() - 1000));
+        this.tokenStore.storeAccessToken(expired, authentication);
+
+        // When
+        this.tokenSweeper.sweep();
+
+        // Then
+        assertThat(this.tokenStore.readAccessToken("expired")).isNull();
+        assertThat(this.meterRegistry.get("tokens.stored").tag("type", "access").gauge().value()).isEqualTo(0);
+        assertThat(this.meterRegistry.get("tokens.stored").tag("type", "refresh").gauge().value()).isEqualTo(1);
+        assertThat(this.meterRegistry.get("tokens.sweep").timer().count()).isPositive();
+    }
+
+    private String getAccessToken() throws Exception {
+        String responseBody = this.mockMvc.perform(post("/oauth/token")
+                .with(httpBasic(this.appProperties.getClientId(), this.appProperties.getClientSecret()))
+                .param("username", "jdbc@email.com")
+                .param("password", "jdbc1234")
+                .param("grant_type", "password"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return new Jackson2JsonParser().parseMap(responseBody).get("access_token").toString();
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.demoinflearnrestapi.configs;
+
+import com.example.demoinflearnrestapi.accounts.Account;
+import com.example.demoinflearnrestapi.accounts.AccountRepository;
+import com.example.demoinflearnrestapi.accounts.AccountRole;
+import com.example.demoinflearnrestapi.accounts.AccountService;
+import com.example.demoinflearnrestapi.common.BaseTest;
+import com.example.demoinflearnrestapi.events.EventDto;
+import com.example.demoinflearnrestapi.events.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.oauth2.common.util.Jackson2JsonParser;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@TestPropertySource(properties = {
+        "token.store=jwt",
+        "spring.datasource.url=jdbc:h2:mem:jwt",
+        "spring.datasource.hikari.jdbc-url=jdbc:h2:mem:jwt"
+})
+public class JwtTokenTest extends BaseTest {
+
+    @Autowired
+    AccountService accountService;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    AppProperties appProperties;
+
+    Account account;
+
+    @BeforeEach
+    public void setUp() {
+        this.eventRepository.deleteAll();
+        this.accountRepository.deleteAll();
+        this.account = this.accountService.saveAccount(Account.builder()
+                .email("jwt@email.com")
+                .password("jwt1234")
+                .roles(Set.of(AccountRole.ADMIN, AccountRole.USER))
+                .build());
+    }
+
+    @DisplayName("JWT 토큰으로 이벤트를 만들면 토큰의 계정이 매니저가 된다")
+    @Test
+    public void createEventWithJwt() throws Exception {
+        // Given
+        String accessToken = getAccessToken();
+
+        // When && Then
+        assertThat(accessToken.split("\\.")).hasSize(3);
+        this.mockMvc.perform(post("/api/events")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaTypes.HAL_JSON_VALUE)
+                .content(this.objectMapper.writeValueAsString(eventDto())))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("manager.id").value(this.account.getId()));
+    }
+
+    @DisplayName("서명이 맞지 않는 JWT 토큰은 401 응답 받기")
+    @Test
+    public void createEventWithTamperedJwt() throws Exception {
+        // Given
+        String accessToken = getAccessToken();
+        String tampered = accessToken.substring(0, accessToken.length() - 4) + "AAAA";
+
+        // When && Then
+        this.mockMvc.perform(post("/api/events")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + tampered)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaTypes.HAL_JSON_VALUE)
+                .content(this.objectMapper.writeValueAsString(eventDto())))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private String getAccessToken() throws Exception {
+        String responseBody = this.mockMvc.perform(post("/oauth/token")
+                .with(httpBasic(this.appProperties.getClientId(), this.appProperties.getClientSecret()))
+                .param("username", "jwt@email.com")
+                .param("password", "jwt1234")
+                .param("grant_type", "password"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return new Jackson2JsonParser().parseMap(responseBody).get("access_token").toString();
+    }
+
+    private static EventDto eventDto() {
+        return EventDto.builder()
+                .name("Spring")
+                .description("REST API Development with Spring")
+                .beginEnrollmentDateTime(LocalDateTime.of(2022, 10, 25, 0, 0))
+                .closeEnrollmentDateTime(LocalDateTime.of(2022, 10, 25, 23, 59))
+                .beginEventDateTime(LocalDateTime.of(2022, 10, 26, 14, 51))
+                .endEventDateTime(LocalDateTime.of(2022, 10, 26, 15, 0))
+                .basePrice(100)
+                .maxPrice(200)
+                .limitOfEnrollment(200)
+                .location("상도동 리치빈스")
+                .build();
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.demoinflearnrestapi.configs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TokenPropertiesTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ValidationAutoConfiguration.class))
+            .withUserConfiguration(Config.class);
+
+    @DisplayName("키 저장소만 설정하고 비밀번호를 빠뜨리면 시작하지 않는다")
+    @Test
+    public void rejectKeyStoreWithoutPassword() {
+        this.contextRunner
+                .withPropertyValues("token.jwt.key-store=classpath:jwt.jks", "token.jwt.key-alias=jwt")
+                .run(context -> assertThat(context).getFailure()
+                        .getRootCause()
+                        .hasMessageContaining("token.jwt.key-store-password and token.jwt.key-alias must be set"));
+    }
+
+    @DisplayName("키 저장소를 설정하지 않으면 비밀번호 없이 시작한다")
+    @Test
+    public void acceptGeneratedKeyPair() {
+        this.contextRunner
+                .run(context -> assertThat(context).hasNotFailed().hasSingleBean(TokenProperties.class));
+    }
+
+    @Configuration
+    @EnableConfigurationProperties(TokenProperties.class)
+    static class Config {
+    }
+}
@@ -6,6 +6,12 @@ import com.example.demoinflearnrestapi.accounts.AccountRole;
 import com.example.demoinflearnrestapi.accounts.AccountService;
 import com.example.demoinflearnrestapi.common.BaseTest;
 import com.example.demoinflearnrestapi.configs.AppProperties;
+import com.example.demoinflearnrestapi.configs.EventProperties;
+import com.jayway.jsonpath.JsonPath;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,12 +20,21 @@ import org.springframework.hateoas.MediaTypes;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.oauth2.common.util.Jackson2JsonParser;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 
+import javax.persistence.EntityManagerFactory;
+import java.net.URI;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.springframework.restdocs.headers.HeaderDocumentation.*;
 import static org.springframework.restdocs.hypermedia.HypermediaDocumentation.linkWithRel;
 import static org.springframework.restdocs.hypermedia.HypermediaDocumentation.links;
@@ -28,6 +43,7 @@ import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuild
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.put;
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -46,6 +62,18 @@ public class EventControllerTests extends BaseTest {
     @Autowired
     AppProperties appProperties;
 
+    @Autowired
+    EventProperties eventProperties;
+
+    @Autowired
+    EventCountCache eventCountCache;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
     @BeforeEach
     public void setUp() {
         this.eventRepository.deleteAll();
@@ -198,6 +226,260 @@ public class EventControllerTests extends BaseTest {
                 .andDo(print());
     }
 
+    @DisplayName("이벤트 여러 개를 한 번에 생성하기")
+    @Test
+    public void createEvents() throws Exception {
+        // Given
+        List<EventDto> eventDtos = IntStream.range(0, 10)
+                .mapToObj(i -> this.modelMapper.map(this.buildEvent(i), EventDto.class))
+                .collect(Collectors.toList());
+        String bearerToken = getBearerToken();
+        Statistics statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When & Then
+        this.mockMvc.perform(post("/api/events/batch")
+                .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaTypes.HAL_JSON_VALUE)
+                .content(this.objectMapper.writeValueAsString(eventDtos)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("created.length()").value(10))
+                .andExpect(jsonPath("created[9].index").value(9))
+                .andExpect(jsonPath("created[9].id").exists())
+                .andExpect(jsonPath("rejected").isEmpty())
+                .andExpect(jsonPath("_links.query-events").exists())
+                .andDo(document("create-events-batch",
+                        links(
+                                linkWithRel("self").description("link to self"),
+                                linkWithRel("query-events").description("link to query events"),
+                                linkWithRel("profile").description("link to profile")
+                        ),
+                        relaxedResponseFields(
+                                fieldWithPath("created[].index").description("index of the created event in the request"),
+                                fieldWithPath("created[].id").description("identifier of the created event"),
+                                fieldWithPath("rejected").description("rejected events with their errors")
+                        )
+                ));
+
+        assertThat(statistics.getTransactionCount()).isEqualTo(1);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(10);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+        assertThat(this.eventRepository.count()).isEqualTo(10);
+    }
+
+    @DisplayName("이벤트 여러 개 중 잘못된 이벤트만 거절하고 나머지는 생성하기")
+    @Test
+    public void createEventsPartially() throws Exception {
+        // Given
+        EventDto valid = this.modelMapper.map(this.buildEvent(1), EventDto.class);
+        EventDto empty = this.modelMapper.map(this.buildEvent(3), EventDto.class);
+        empty.setName("");
+        EventDto wrong = this.modelMapper.map(this.buildEvent(2), EventDto.class);
+        wrong.setBasePrice(10000);
+        wrong.setMaxPrice(200);
+
+        // When & Then
+        this.mockMvc.perform(post("/api/events/batch")
+                .header(HttpHeaders.AUTHORIZATION, getBearerToken())
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaTypes.HAL_JSON_VALUE)
+                .content(this.objectMapper.writeValueAsString(List.of(valid, empty, wrong))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("created.length()").value(1))
+                .andExpect(jsonPath("created[0].index").value(0))
+                .andExpect(jsonPath("rejected.length()").value(2))
+                .andExpect(jsonPath("rejected[0].index").value(1))
+                .andExpect(jsonPath("rejected[0].errors[0].field").value("name"))
+                .andExpect(jsonPath("rejected[1].index").value(2))
+                .andExpect(jsonPath("rejected[1].errors[0].field").value("basePrice"))
+                .andDo(print());
+
+        assertThat(this.eventRepository.count()).isEqualTo(1);
+    }
+
+    @DisplayName("최대 개수를 넘는 이벤트는 나머지를 읽지 않고 413 응답 받기")
+    @Test
+    public void createEventsTooLarge() throws Exception {
+        // Given
+        String event = this.objectMapper.writeValueAsString(this.modelMapper.map(this.buildEvent(1), EventDto.class));
+        String content = "[" + event + "," + event + "," + event + ", not json";
+        String bearerToken = getBearerToken();
+        int batchMaxSize = this.eventProperties.getBatchMaxSize();
+        this.eventProperties.setBatchMaxSize(2);
+
+        // When & Then
+        try {
+            this.mockMvc.perform(post("/api/events/batch")
+                    .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaTypes.HAL_JSON_VALUE)
+                    .content(content))
+                    .andExpect(status().isPayloadTooLarge());
+            this.mockMvc.perform(post("/api/events/batch")
+                    .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaTypes.HAL_JSON_VALUE)
+                    .content("[" + event + ", not json"))
+                    .andExpect(status().isBadRequest());
+        } finally {
+            this.eventProperties.setBatchMaxSize(batchMaxSize);
+        }
+
+        assertThat(this.eventRepository.count()).isZero();
+    }
+
+    @DisplayName("이벤트 여러 개가 모두 잘못된 경우 400 응답 받기")
+    @Test
+    public void createEventsBadRequest() throws Exception {
+        // Given
+        EventDto eventDto = this.modelMapper.map(this.buildEvent(1), EventDto.class);
+        eventDto.setDescription("");
+
+        // When & Then
+        this.mockMvc.perform(post("/api/events/batch")
+                .header(HttpHeaders.AUTHORIZATION, getBearerToken())
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaTypes.HAL_JSON_VALUE)
+                .content(this.objectMapper.writeValueAsString(List.of(eventDto))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("created").isEmpty())
+                .andExpect(jsonPath("rejected[0].errors").exists());
+    }
+
+    @DisplayName("NDJSON 파일로 이벤트 가져오기")
+    @Test
+    public void importEventsFromNdjson() throws Exception {
+        // Given
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 5; i++) {
+            content.append(this.objectMapper.writeValueAsString(this.modelMapper.map(this.buildEvent(i), EventDto.class))).append('\n');
+        }
+        content.append("{not json\n");
+        EventDto wrong = this.modelMapper.map(this.buildEvent(6), EventDto.class);
+        wrong.setBasePrice(10000);
+        wrong.setMaxPrice(200);
+        content.append(this.objectMapper.writeValueAsString(wrong)).append('\n');
+        content.append('\n');
+
+        // When & Then
+        this.mockMvc.perform(post("/api/events/import")
+                .header(HttpHeaders.AUTHORIZATION, getBearerToken())
+                .contentType("application/x-ndjson")
+                .accept(MediaTypes.HAL_JSON_VALUE)
+                .content(content.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("accepted").value(5))
+                .andExpect(jsonPath("rejected").value(2))
+                .andExpect(jsonPath("errors[0].line").value(6))
+                .andExpect(jsonPath("errors[0].errors[0].code").value("malformed"))
+                .andExpect(jsonPath("errors[1].line").value(7))
+                .andExpect(jsonPath("errors[1].errors[0].field").value("basePrice"))
+                .andExpect(jsonPath("_links.query-events").exists())
+                .andDo(print());
+
+        assertThat(this.eventRepository.count()).isEqualTo(5);
+    }
+
+    @DisplayName("너무 긴 NDJSON 줄은 그 줄만 거부하기")
+    @Test
+    public void importEventsRejectsLongLine() throws Exception {
+        // Given
+        EventDto longEvent = this.modelMapper.map(this.buildEvent(1), EventDto.class);
+        longEvent.setDescription("x".repeat((int) this.eventProperties.getImportMaxRecordSize().toBytes()));
+        String content = this.objectMapper.writeValueAsString(longEvent) + "\n"
+                + this.objectMapper.writeValueAsString(this.modelMapper.map(this.buildEvent(2), EventDto.class)) + "\n";
+
+        // When & Then
+        this.mockMvc.perform(post("/api/events/import")
+                .header(HttpHeaders.AUTHORIZATION, getBearerToken())
+                .contentType("application/x-ndjson")
+                .accept(MediaTypes.HAL_JSON_VALUE)
+                .content(content))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("accepted").value(1))
+                .andExpect(jsonPath("rejected").value(1))
+                .andExpect(jsonPath("errors[0].line").value(1))
+                .andExpect(jsonPath("errors[0].errors[0].code").value("malformed"));
+    }
+
+    @DisplayName("저장하지 못한 묶음의 줄만 거부하고 가져오기를 계속하기")
+    @Test
+    public void importEventsRejectsFailedChunk() throws Exception {
+        // Given
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 6; i++) {
+            EventDto eventDto = this.modelMapper.map(this.buildEvent(i), EventDto.class);
+            if (i == 2) {
+                eventDto.setName("x".repeat(1000));
+            }
+            content.append(this.objectMapper.writeValueAsString(eventDto)).append('\n');
+        }
+        int chunkSize = this.eventProperties.getImportChunkSize();
+        this.eventProperties.setImportChunkSize(2);
+
+        // When & Then
+        try {
+            this.mockMvc.perform(post("/api/events/import")
+                    .header(HttpHeaders.AUTHORIZATION, getBearerToken())
+                    .contentType("application/x-ndjson")
+                    .accept(MediaTypes.HAL_JSON_VALUE)
+                    .content(content.toString()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("accepted").value(4))
+                    .andExpect(jsonPath("rejected").value(2))
+                    .andExpect(jsonPath("errors[0].line").value(3))
+                    .andExpect(jsonPath("errors[0].errors[0].code").value("not-saved"))
+                    .andExpect(jsonPath("errors[0].errors[0].defaultMessage").value("Event could not be saved."))
+                    .andExpect(jsonPath("errors[1].line").value(4));
+        } finally {
+            this.eventProperties.setImportChunkSize(chunkSize);
+        }
+
+        assertThat(this.eventRepository.count()).isEqualTo(4);
+    }
+
+    @DisplayName("내보낸 CSV 파일을 그대로 가져오기")
+    @Test
+    public void importEventsFromCsv() throws Exception {
+        // Given
+        Event event = this.buildEvent(1);
+        event.setDescription("comma, \"quoted\"\nand a new line");
+        this.eventRepository.save(event);
+        MvcResult exportResult = this.mockMvc.perform(get("/api/events/export").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String csv = this.mockMvc.perform(asyncDispatch(exportResult))
+                .andReturn().getResponse().getContentAsString();
+
+        // When & Then
+        this.mockMvc.perform(post("/api/events/import")
+                .header(HttpHeaders.AUTHORIZATION, getBearerToken())
+                .contentType("text/csv")
+                .accept(MediaTypes.HAL_JSON_VALUE)
+                .content(csv))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("accepted").value(1))
+                .andExpect(jsonPath("rejected").value(0));
+
+        assertThat(this.eventRepository.findAll())
+                .hasSize(2)
+                .allSatisfy(imported -> assertThat(imported.getDescription()).isEqualTo(event.getDescription()));
+    }
+
+    @DisplayName("가져올 수 있는 이벤트가 없으면 400 응답 받기")
+    @Test
+    public void importEventsBadRequest() throws Exception {
+        this.mockMvc.perform(post("/api/events/import")
+                .header(HttpHeaders.AUTHORIZATION, getBearerToken())
+                .contentType("text/csv")
+                .accept(MediaTypes.HAL_JSON_VALUE)
+                .content("name,description\r\nSpring,REST API\r\n"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("accepted").value(0))
+                .andExpect(jsonPath("errors[0].line").value(2));
+    }
+
     @DisplayName("30개의 이벤트를 10개씩 조회하는데, 두 번째 페이지 조회하기 ")
     @Test
     public void queryEvents() throws Exception {
@@ -240,6 +522,418 @@ public class EventControllerTests extends BaseTest {
                 .andDo(print());
     }
 
+    @DisplayName("전체 개수를 세지 않고 30개의 이벤트를 10개씩 조회하는데, 두 번째 페이지 조회하기")
+    @Test
+    public void queryEventsWithoutCount() throws Exception {
+        // Given
+        IntStream.range(0, 30).forEach(this::generateEvent);
+
+        // When & Then
+        this.mockMvc.perform(get("/api/events")
+                .param("count", "none")
+                .param("page", "1")
+                .param("size", "10")
+                .param("sort", "name,DESC"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("page").doesNotExist())
+                .andExpect(jsonPath("_embedded.eventList.length()").value(10))
+                .andExpect(jsonPath("_links.self").exists())
+                .andExpect(jsonPath("_links.prev.href").value(containsString("page=0")))
+                .andExpect(jsonPath("_links.next.href").value(containsString("page=2")))
+                .andExpect(jsonPath("_links.profile").exists())
+                .andDo(document("Query-events-slice"))
+                .andDo(print());
+    }
+
+    @DisplayName("상태, 무료 여부, 가격, 이벤트 기간으로 걸러서 이벤트 조회하기")
+    @Test
+    public void queryEventsWithFilter() throws Exception {
+        // Given
+        for (int i = 0; i < 30; i++) {
+            Event event = buildEvent(i);
+            event.setEventStatus(i % 2 == 0 ? EventStatus.PUBLISHED : EventStatus.DRAFT);
+            event.setBasePrice(i * 10);
+            event.setFree(i == 0);
+            event.setBeginEventDateTime(LocalDateTime.of(2022, 11, 1, 0, 0).plusDays(i));
+            this.eventRepository.save(event);
+        }
+
+        // When & Then
+        this.mockMvc.perform(get("/api/events?eventStatus=PUBLISHED&free=false&minBasePrice=50&maxBasePrice=250"
+                + "&from=2022-11-01T00:00:00&to=2022-11-21T00:00:00&size=3&sort=basePrice,ASC"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("page.totalElements").value(7))
+                .andExpect(jsonPath("_embedded.eventList[*].basePrice").value(org.hamcrest.Matchers.contains(60, 80, 100)))
+                .andExpect(jsonPath("_links.next.href").value(containsString("eventStatus=PUBLISHED")));
+
+        this.mockMvc.perform(get("/api/events")
+                .param("count", "none")
+                .param("eventStatus", "PUBLISHED")
+                .param("from", "2022-11-20T00:00:00")
+                .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList.length()").value(5))
+                .andExpect(jsonPath("_links.next").doesNotExist());
+
+        this.mockMvc.perform(get("/api/events")
+                .param("after", "")
+                .param("free", "true")
+                .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList.length()").value(1))
+                .andExpect(jsonPath("_embedded.eventList[0].name").value("event 0"));
+    }
+
+    @DisplayName("이름과 설명으로 이벤트를 검색하기")
+    @Test
+    public void searchEvents() throws Exception {
+        // Given
+        String bearerToken = getBearerToken();
+        for (int i = 0; i < 3; i++) {
+            EventDto event = EventDto.builder()
+                    .name(i == 0 ? "Spring 스터디" : "JPA 스터디 " + i)
+                    .description(i == 2 ? "Spring Data JPA" : "매주 모임")
+                    .beginEnrollmentDateTime(LocalDateTime.of(2022, 10, 25, 0, 0))
+                    .closeEnrollmentDateTime(LocalDateTime.of(2022, 10, 25, 23, 59))
+                    .beginEventDateTime(LocalDateTime.of(2022, 10, 26, 14, 51))
+                    .endEventDateTime(LocalDateTime.of(2022, 10, 26, 15, 0))
+                    .limitOfEnrollment(200)
+                    .build();
+            mockMvc.perform(post("/api/events/")
+                    .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(event)))
+                    .andExpect(status().isCreated());
+        }
+
+        // When & Then
+        this.mockMvc.perform(get("/api/events/search?q=spri&size=1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList.length()").value(1))
+                .andExpect(jsonPath("_embedded.eventList[0].name").value("Spring 스터디"))
+                .andExpect(jsonPath("_links.self").exists())
+                .andExpect(jsonPath("_links.next.href").value(containsString("q=spri")))
+                .andExpect(jsonPath("_links.next.href").value(containsString("page=1")))
+                .andExpect(jsonPath("_links.profile").exists())
+                .andDo(document("search-events"));
+
+        this.mockMvc.perform(get("/api/events/search")
+                .param("q", "spring data"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList.length()").value(1))
+                .andExpect(jsonPath("_embedded.eventList[0].name").value("JPA 스터디 2"));
+
+        this.mockMvc.perform(get("/api/events/search?q=spri&page=1100000&size=2000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded").doesNotExist())
+                .andExpect(jsonPath("_links.next").doesNotExist());
+    }
+
+    @DisplayName("주어진 기간에 진행하거나 등록받는 이벤트 조회하기")
+    @Test
+    public void queryOverlappingEvents() throws Exception {
+        // Given
+        String bearerToken = getBearerToken();
+        for (int i = 0; i < 5; i++) {
+            EventDto event = EventDto.builder()
+                    .name("event " + i)
+                    .description("test event")
+                    .beginEnrollmentDateTime(LocalDateTime.of(2022, 10, 1, 0, 0).plusDays(i))
+                    .closeEnrollmentDateTime(LocalDateTime.of(2022, 10, 2, 0, 0).plusDays(i))
+                    .beginEventDateTime(LocalDateTime.of(2022, 11, 1, 9, 0).plusDays(i))
+                    .endEventDateTime(LocalDateTime.of(2022, 11, 1, 18, 0).plusDays(i * 2))
+                    .limitOfEnrollment(200)
+                    .build();
+            mockMvc.perform(post("/api/events/")
+                    .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(event)))
+                    .andExpect(status().isCreated());
+        }
+
+        // When & Then
+        this.mockMvc.perform(get("/api/events/overlapping?from=2022-11-02T00:00:00&to=2022-11-06T00:00:00&size=2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList[*].name").value(org.hamcrest.Matchers.contains("event 1", "event 2")))
+                .andExpect(jsonPath("_links.self").exists())
+                .andExpect(jsonPath("_links.next.href").value(containsString("from=2022-11-02T00:00:00")))
+                .andExpect(jsonPath("_links.profile").exists())
+                .andDo(document("query-overlapping-events"));
+
+        this.mockMvc.perform(get("/api/events/overlapping?from=2022-11-02T00:00:00&to=2022-11-06T00:00:00&page=1&size=2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList[*].name").value(org.hamcrest.Matchers.contains("event 3", "event 4")))
+                .andExpect(jsonPath("_links.prev").exists())
+                .andExpect(jsonPath("_links.next").doesNotExist());
+
+        this.mockMvc.perform(get("/api/events/overlapping?window=enrollment&from=2022-10-02T12:00:00&to=2022-10-04T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList[*].name").value(org.hamcrest.Matchers.contains("event 1", "event 2")));
+
+        this.mockMvc.perform(get("/api/events/overlapping?from=2022-11-04T00:00:00&to=2022-11-03T00:00:00"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @DisplayName("입력 중인 장소를 많이 쓰인 순서대로 완성하기")
+    @Test
+    public void completeLocations() throws Exception {
+        // Given
+        String bearerToken = getBearerToken();
+        List<String> locations = List.of("판교 테크노밸리", "판교역 2번 출구", "판교  테크노밸리", "판교역 2번 출구", "판교 테크노밸리", "성수동");
+        MvcResult result = null;
+        for (String location : locations) {
+            EventDto event = EventDto.builder()
+                    .name("event at " + location)
+                    .description("test event")
+                    .beginEnrollmentDateTime(LocalDateTime.of(2022, 10, 25, 0, 0))
+                    .closeEnrollmentDateTime(LocalDateTime.of(2022, 10, 25, 23, 59))
+                    .beginEventDateTime(LocalDateTime.of(2022, 10, 26, 14, 51))
+                    .endEventDateTime(LocalDateTime.of(2022, 10, 26, 15, 0))
+                    .location(location)
+                    .limitOfEnrollment(200)
+                    .build();
+            result = mockMvc.perform(post("/api/events/")
+                    .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(event)))
+                    .andExpect(status().isCreated())
+                    .andReturn();
+        }
+        Event moved = this.eventRepository.findById(JsonPath.read(result.getResponse().getContentAsString(), "id")).orElseThrow();
+        EventDto movedDto = this.modelMapper.map(moved, EventDto.class);
+        movedDto.setLocation("판교역 2번 출구");
+        this.mockMvc.perform(put("/api/events/{id}", moved.getId())
+                .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                .header(HttpHeaders.IF_MATCH, getEtag(moved))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(movedDto)))
+                .andExpect(status().isOk());
+
+        // When & Then
+        this.mockMvc.perform(get("/api/events/locations")
+                .param("prefix", "판교"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("locations[*].value").value(org.hamcrest.Matchers.contains("판교 테크노밸리", "판교역 2번 출구")))
+                .andExpect(jsonPath("locations[*].count").value(org.hamcrest.Matchers.contains(3, 3)))
+                .andExpect(jsonPath("_links.self").exists())
+                .andExpect(jsonPath("_links.profile").exists())
+                .andDo(document("complete-locations"));
+
+        this.mockMvc.perform(get("/api/events/locations")
+                .param("prefix", " 판교역")
+                .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("locations.length()").value(1))
+                .andExpect(jsonPath("locations[0].value").value("판교역 2번 출구"));
+
+        this.mockMvc.perform(get("/api/events/locations")
+                .param("prefix", "성수동"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("locations").isEmpty());
+    }
+
+    @DisplayName("캐시된 전체 개수로 30개의 이벤트를 10개씩 조회하기")
+    @Test
+    public void queryEventsWithEstimatedCount() throws Exception {
+        // Given
+        IntStream.range(0, 30).forEach(this::generateEvent);
+        this.eventCountCache.refresh();
+
+        // When & Then
+        this.mockMvc.perform(get("/api/events")
+                .param("count", "estimated")
+                .param("page", "1")
+                .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("page.totalElements").value(30))
+                .andExpect(jsonPath("page.totalPages").value(3))
+                .andExpect(jsonPath("_embedded.eventList.length()").value(10))
+                .andExpect(jsonPath("_links.next").exists())
+                .andDo(print());
+    }
+
+    @DisplayName("30개의 이벤트를 커서로 10개씩 조회하고, next 링크로 다음 페이지 조회하기")
+    @Test
+    public void queryEventsWithCursor() throws Exception {
+        // Given
+        IntStream.range(0, 30).forEach(this::generateEvent);
+
+        // When
+        String firstPage = this.mockMvc.perform(get("/api/events")
+                .param("after", "")
+                .param("size", "10")
+                .param("sort", "name,DESC"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("page").doesNotExist())
+                .andExpect(jsonPath("_embedded.eventList.length()").value(10))
+                .andExpect(jsonPath("_embedded.eventList[0].name").value("event 9"))
+                .andExpect(jsonPath("_links.next").exists())
+                .andExpect(jsonPath("_links.prev").doesNotExist())
+                .andExpect(jsonPath("_links.profile").exists())
+                .andDo(document("Query-events-cursor"))
+                .andReturn().getResponse().getContentAsString();
+        String next = JsonPath.read(firstPage, "_links.next.href");
+
+        // Then
+        String secondPage = this.mockMvc.perform(get(URI.create(next)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList.length()").value(10))
+                .andExpect(jsonPath("_embedded.eventList[0].name").value("event 26"))
+                .andExpect(jsonPath("_links.next").exists())
+                .andExpect(jsonPath("_links.prev").exists())
+                .andReturn().getResponse().getContentAsString();
+        String prev = JsonPath.read(secondPage, "_links.prev.href");
+
+        this.mockMvc.perform(get(URI.create(prev)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList.length()").value(10))
+                .andExpect(jsonPath("_embedded.eventList[0].name").value("event 9"))
+                .andExpect(jsonPath("_links.next").exists())
+                .andExpect(jsonPath("_links.prev").doesNotExist())
+                .andDo(print());
+    }
+
+    @DisplayName("정렬 값이 없는 이벤트도 커서로 빠짐없이 조회하기")
+    @Test
+    public void queryEventsWithCursorOverNullValues() throws Exception {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            Event event = this.buildEvent(i);
+            event.setBeginEventDateTime(i < 3 ? LocalDateTime.of(2022, 10, 26 + i, 14, 51) : null);
+            this.eventRepository.save(event);
+        }
+
+        // When & Then
+        assertThat(walkCursor("beginEventDateTime,ASC")).containsExactly("event 0", "event 1", "event 2", "event 3", "event 4");
+        assertThat(walkCursor("beginEventDateTime,DESC")).containsExactly("event 4", "event 3", "event 2", "event 1", "event 0");
+    }
+
+    /**
+     * Names of every event, following the {@code next} links of 2-event cursor pages, then checking that
+     * the {@code prev} link of the last page goes back to the page before it.
+     */
+    private List<String> walkCursor(String sort) throws Exception {
+        List<String> names = new ArrayList<>();
+        List<String> previousPage = null;
+        String page = this.mockMvc.perform(get("/api/events?after=&size=2&sort=" + sort))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        while (true) {
+            List<String> pageNames = JsonPath.read(page, "_embedded.eventList[*].name");
+            names.addAll(pageNames);
+            Map<String, Object> links = JsonPath.read(page, "_links");
+            if (!links.containsKey("next")) {
+                String prev = JsonPath.read(page, "_links.prev.href");
+                String previous = this.mockMvc.perform(get(URI.create(prev)))
+                        .andExpect(status().isOk())
+                        .andReturn().getResponse().getContentAsString();
+                assertThat(JsonPath.<List<String>>read(previous, "_embedded.eventList[*].name")).isEqualTo(previousPage);
+                return names;
+            }
+            previousPage = pageNames;
+            page = this.mockMvc.perform(get(URI.create(JsonPath.read(page, "_links.next.href"))))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+        }
+    }
+
+    @DisplayName("잘못된 커서로 조회했을 때 400 응답 받기")
+    @Test
+    public void queryEventsWithMalformedCursor() throws Exception {
+        this.mockMvc.perform(get("/api/events")
+                .param("after", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andDo(print());
+    }
+
+    @DisplayName("매니저가 모두 다른 이벤트 20개를 조회해도 쿼리 수는 일정하다")
+    @Test
+    public void queryEventsStatementCount() throws Exception {
+        // Given
+        IntStream.range(0, 20).forEach(i -> {
+            Account manager = this.accountRepository.save(Account.builder()
+                    .email("manager" + i + "@email.com")
+                    .password("manager")
+                    .roles(Set.of(AccountRole.USER))
+                    .build());
+            Event event = this.generateEvent(i);
+            event.setManager(manager);
+            this.eventRepository.save(event);
+        });
+        Statistics statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        this.mockMvc.perform(get("/api/events")
+                .param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList.length()").value(20))
+                .andExpect(jsonPath("_embedded.eventList[0].manager.id").exists());
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(20);
+    }
+
+    @DisplayName("이벤트 전체를 NDJSON으로 내보내기")
+    @Test
+    public void exportEventsAsNdjson() throws Exception {
+        // Given
+        IntStream.range(0, 30).forEach(this::generateEvent);
+
+        // When
+        MvcResult mvcResult = this.mockMvc.perform(get("/api/events/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        String content = this.mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, containsString("application/x-ndjson")))
+                .andReturn().getResponse().getContentAsString();
+        String[] lines = content.split("\n");
+        assertThat(lines).hasSize(30);
+        assertThat(JsonPath.<String>read(lines[0], "$.name")).isEqualTo("event 0");
+        assertThat(JsonPath.<String>read(lines[0], "$.beginEventDateTime")).isEqualTo("2022-10-26T14:51:00");
+        assertThat(JsonPath.<String>read(lines[29], "$.name")).isEqualTo("event 29");
+    }
+
+    @DisplayName("조건에 맞는 이벤트만 CSV로 내보내기")
+    @Test
+    public void exportEventsAsCsv() throws Exception {
+        // Given
+        IntStream.range(0, 10).forEach(this::generateEvent);
+        Event published = this.buildEvent(10);
+        published.setDescription("comma, \"quoted\"");
+        published.setEventStatus(EventStatus.PUBLISHED);
+        this.eventRepository.save(published);
+
+        // When
+        MvcResult mvcResult = this.mockMvc.perform(get("/api/events/export")
+                .param("format", "csv")
+                .param("eventStatus", "PUBLISHED"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        String content = this.mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, containsString("text/csv")))
+                .andReturn().getResponse().getContentAsString();
+        String[] lines = content.split("\r\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("id,name,description,");
+        assertThat(lines[1]).startsWith(published.getId() + ",event 10,\"comma, \"\"quoted\"\"\",");
+    }
+
+    @DisplayName("지원하지 않는 형식으로 내보내면 400 응답 받기")
+    @Test
+    public void exportEventsWithUnknownFormat() throws Exception {
+        this.mockMvc.perform(get("/api/events/export")
+                .param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+
     @DisplayName("기존의 이벤트 하나 조회하기")
     @Test
     public void getEvent() throws Exception {
@@ -257,6 +951,142 @@ public class EventControllerTests extends BaseTest {
                 .andDo(print());
     }
 
+    @DisplayName("ETag가 같으면 이벤트 조회 시 304 응답 받기")
+    @Test
+    public void getEventNotModified() throws Exception {
+        // Given
+        Event event = this.generateEvent(100);
+        String etag = this.mockMvc.perform(get("/api/events/{id}", event.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When & Then
+        this.mockMvc.perform(get("/api/events/{id}", event.getId())
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+
+        event.setName("changed");
+        this.eventRepository.save(event);
+        this.mockMvc.perform(get("/api/events/{id}", event.getId())
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("name").value("changed"));
+    }
+
+    @DisplayName("ETag가 같으면 이벤트 목록 조회 시 304 응답 받기")
+    @Test
+    public void queryEventsNotModified() throws Exception {
+        // Given
+        IntStream.range(0, 30).forEach(this::generateEvent);
+        String etag = this.mockMvc.perform(get("/api/events")
+                .param("page", "1")
+                .param("size", "10"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When & Then
+        this.mockMvc.perform(get("/api/events")
+                .param("page", "1")
+                .param("size", "10")
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        this.mockMvc.perform(get("/api/events")
+                .param("page", "2")
+                .param("size", "10")
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @DisplayName("같은 이벤트를 반복 조회하면 2차 캐시에서 읽는다")
+    @Test
+    public void getEventFromSecondLevelCache() throws Exception {
+        // Given
+        Event event = this.generateEvent(100);
+        Statistics statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        for (int i = 0; i < 2; i++) {
+            this.mockMvc.perform(get("/api/events/{id}", event.getId()))
+                    .andExpect(status().isOk());
+        }
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getDomainDataRegionStatistics(Event.class.getName()).getHitCount()).isEqualTo(2);
+    }
+
+    @DisplayName("같은 버전의 이벤트는 직렬화된 본문을 재사용하고 수정하면 새로 만든다")
+    @Test
+    public void getEventFromResponseCache() throws Exception {
+        // Given
+        Event event = this.generateEvent(100);
+        double hits = this.meterRegistry.get("cache.gets").tag("cache", "events.responses").tag("result", "hit")
+                .functionCounter().count();
+
+        EventDto eventDto = this.modelMapper.map(event, EventDto.class);
+        eventDto.setName("Updated Event");
+
+        // When
+        MvcResult first = this.mockMvc.perform(get("/api/events/{id}", event.getId()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaTypes.HAL_JSON))
+                .andReturn();
+        byte[] second = this.mockMvc.perform(get("/api/events/{id}", event.getId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+        this.mockMvc.perform(put("/api/events/{id}", event.getId())
+                .header(HttpHeaders.AUTHORIZATION, getBearerToken())
+                .header(HttpHeaders.IF_MATCH, first.getResponse().getHeader(HttpHeaders.ETAG))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.objectMapper.writeValueAsString(eventDto)))
+                .andExpect(status().isOk());
+
+        // Then
+        assertThat(second).isEqualTo(first.getResponse().getContentAsByteArray());
+        assertThat(this.meterRegistry.get("cache.gets").tag("cache", "events.responses").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(hits + 1);
+        this.mockMvc.perform(get("/api/events/{id}", event.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("name").value("Updated Event"));
+    }
+
+    @DisplayName("설정한 링크 기준이 아닌 호스트로 조회한 본문은 캐시하지 않는다")
+    @Test
+    public void getEventFromManyHosts() throws Exception {
+        // Given
+        Event event = this.generateEvent(100);
+        this.mockMvc.perform(get("/api/events/{id}", event.getId()))
+                .andExpect(status().isOk());
+        double gets = cacheGets();
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            this.mockMvc.perform(get("/api/events/{id}", event.getId())
+                    .header(HttpHeaders.HOST, "host" + i + ".example.com"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("_links.self.href").value(containsString("host" + i + ".example.com")));
+        }
+
+        // Then
+        assertThat(cacheGets()).isEqualTo(gets);
+        double hits = this.meterRegistry.get("cache.gets").tag("cache", "events.responses").tag("result", "hit")
+                .functionCounter().count();
+        this.mockMvc.perform(get("/api/events/{id}", event.getId()))
+                .andExpect(status().isOk());
+        assertThat(this.meterRegistry.get("cache.gets").tag("cache", "events.responses").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(hits + 1);
+    }
+
+    private double cacheGets() {
+        return this.meterRegistry.get("cache.gets").tag("cache", "events.responses").functionCounters().stream()
+                .mapToDouble(FunctionCounter::count)
+                .sum();
+    }
+
     @DisplayName("없는 이벤트를 조회했을 때 404 응답 받기")
     @Test
     public void getEvent404() throws Exception {
@@ -281,16 +1111,61 @@ public class EventControllerTests extends BaseTest {
         // When && Then
         this.mockMvc.perform(put("/api/events/{id}", event.getId())
                 .header(HttpHeaders.AUTHORIZATION, getBearerToken())
+                .header(HttpHeaders.IF_MATCH, getEtag(event))
                 .contentType(MediaType.APPLICATION_JSON)
                 .accept(MediaTypes.HAL_JSON_VALUE)
                 .content(this.objectMapper.writeValueAsString(eventDto)))
                 .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
                 .andExpect(jsonPath("name").value(eventName))
                 .andExpect(jsonPath("_links.self").exists())
                 .andDo(document("Update-event"))
                 .andDo(print());
     }
 
+    @DisplayName("If-Match 헤더 없이 이벤트를 수정하면 428 응답 받기")
+    @Test
+    public void updateEvent428_NoIfMatch() throws Exception {
+        // Given
+        Event event = this.generateEvent(200);
+
+        EventDto eventDto = this.modelMapper.map(event, EventDto.class);
+
+        // When && Then
+        this.mockMvc.perform(put("/api/events/{id}", event.getId())
+                .header(HttpHeaders.AUTHORIZATION, getBearerToken())
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaTypes.HAL_JSON_VALUE)
+                .content(this.objectMapper.writeValueAsString(eventDto)))
+                .andExpect(status().isPreconditionRequired())
+                .andDo(print());
+    }
+
+    @DisplayName("이미 수정된 이벤트를 예전 ETag로 수정하면 412 응답 받기")
+    @Test
+    public void updateEvent412_StaleIfMatch() throws Exception {
+        // Given
+        Event event = this.generateEvent(200);
+        String staleEtag = getEtag(event);
+        event.setName("Concurrent Update");
+        event = this.eventRepository.save(event);
+
+        EventDto eventDto = this.modelMapper.map(event, EventDto.class);
+        eventDto.setName("Updated Event");
+
+        // When && Then
+        this.mockMvc.perform(put("/api/events/{id}", event.getId())
+                .header(HttpHeaders.AUTHORIZATION, getBearerToken())
+                .header(HttpHeaders.IF_MATCH, staleEtag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaTypes.HAL_JSON_VALUE)
+                .content(this.objectMapper.writeValueAsString(eventDto)))
+                .andExpect(status().isPreconditionFailed())
+                .andDo(print());
+
+        assertThat(this.eventRepository.findById(event.getId()).orElseThrow().getName()).isEqualTo("Concurrent Update");
+    }
+
     @DisplayName("입력값이 비어있는 경우에 이벤트 수정 실패")
     @Test
     public void updateEvent400_Empty() throws Exception {
@@ -348,7 +1223,11 @@ public class EventControllerTests extends BaseTest {
     }
 
     private Event generateEvent(int i) {
-        Event event = Event.builder()
+        return this.eventRepository.save(buildEvent(i));
+    }
+
+    private Event buildEvent(int i) {
+        return Event.builder()
                 .name("event " + i)
                 .description("test event")
                 .beginEnrollmentDateTime(LocalDateTime.of(2022, 10, 25, 0, 0))
@@ -363,8 +1242,11 @@ public class EventControllerTests extends BaseTest {
                 .offline(true)
                 .eventStatus(EventStatus.DRAFT)
                 .build();
+    }
 
-        return this.eventRepository.save(event);
+    private String getEtag(Event event) throws Exception {
+        return this.mockMvc.perform(get("/api/events/{id}", event.getId()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
     }
 
     private String getAccessToken() throws Exception {
@@ -0,0 +1,96 @@
+package com.example.demoinflearnrestapi.events;
+
+import com.example.demoinflearnrestapi.accounts.Account;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.modelmapper.ModelMapper;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EventMapperTest {
+
+    private final EventMapper eventMapper = new EventMapper();
+
+    private final ModelMapper modelMapper = new ModelMapper();
+
+    @SuppressWarnings("unused")
+    private static Stream<Arguments> eventDtos() {
+        return Stream.of(
+                Arguments.of(eventDto("상도동 리치빈스", 100, 200)),
+                Arguments.of(eventDto(null, 0, 0)),
+                Arguments.of(eventDto("   ", 0, 100)),
+                Arguments.of(new EventDto())
+        );
+    }
+
+    @DisplayName("EventDto로 새 Event를 만들면 ModelMapper와 같은 결과를 얻는다")
+    @ParameterizedTest
+    @MethodSource("eventDtos")
+    public void toEntity(EventDto eventDto) {
+        // Given
+        Event expected = this.modelMapper.map(eventDto, Event.class);
+        expected.update();
+
+        // When
+        Event event = this.eventMapper.toEntity(eventDto);
+
+        // Then
+        assertThat(event).usingRecursiveComparison().isEqualTo(expected);
+    }
+
+    @DisplayName("EventDto로 기존 Event를 수정하면 식별자와 관리자는 유지하고 free, offline은 다시 계산한다")
+    @Test
+    public void update() {
+        // Given
+        Account manager = Account.builder().id(7).email("manager@email.com").build();
+        Event event = Event.builder()
+                .id(10)
+                .version(3L)
+                .manager(manager)
+                .eventStatus(EventStatus.PUBLISHED)
+                .location("상도동 리치빈스")
+                .basePrice(100)
+                .maxPrice(200)
+                .build();
+        event.update();
+        EventDto eventDto = eventDto(null, 0, 0);
+
+        Event expected = this.modelMapper.map(eventDto, Event.class);
+        expected.update();
+
+        // When
+        this.eventMapper.update(eventDto, event);
+
+        // Then
+        assertThat(event).usingRecursiveComparison()
+                .ignoringFields("id", "version", "manager", "eventStatus")
+                .isEqualTo(expected);
+        assertThat(event.getId()).isEqualTo(10);
+        assertThat(event.getVersion()).isEqualTo(3L);
+        assertThat(event.getManager()).isSameAs(manager);
+        assertThat(event.getEventStatus()).isEqualTo(EventStatus.PUBLISHED);
+        assertThat(event.isFree()).isTrue();
+        assertThat(event.isOffline()).isFalse();
+    }
+
+    private static EventDto eventDto(String location, int basePrice, int maxPrice) {
+        return EventDto.builder()
+                .name("Spring")
+                .description("REST API Development with Spring")
+                .beginEnrollmentDateTime(LocalDateTime.of(2022, 10, 25, 0, 0))
+                .closeEnrollmentDateTime(LocalDateTime.of(2022, 10, 25, 23, 59))
+                .beginEventDateTime(LocalDateTime.of(2022, 10, 26, 14, 51))
+                .endEventDateTime(LocalDateTime.of(2022, 10, 26, 15, 0))
+                .location(location)
+                .basePrice(basePrice)
+                .maxPrice(maxPrice)
+                .limitOfEnrollment(200)
+                .build();
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.demoinflearnrestapi.events;
+
+import com.example.demoinflearnrestapi.accounts.Account;
+import com.example.demoinflearnrestapi.common.BaseTest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EventResourceSerializerTest extends BaseTest {
+
+    @Autowired
+    RequestMappingHandlerAdapter handlerAdapter;
+
+    ObjectMapper halObjectMapper;
+
+    @BeforeEach
+    public void setUp() {
+        this.halObjectMapper = this.handlerAdapter.getMessageConverters().stream()
+                .filter(converter -> converter instanceof AbstractJackson2HttpMessageConverter)
+                .map(converter -> ((AbstractJackson2HttpMessageConverter) converter)
+                        .getObjectMappersForType(RepresentationModel.class).get(MediaTypes.HAL_JSON))
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @DisplayName("EventResource를 리플렉션 기반 HAL 직렬화와 같은 바이트로 쓴다")
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    public void sameBytesAsEntityModel(boolean indent) throws Exception {
+        // Given
+        ObjectMapper objectMapper = this.halObjectMapper.copy().configure(SerializationFeature.INDENT_OUTPUT, indent);
+        Event full = event(1, "상도동 \"리치빈스\"", Account.builder().id(7).build());
+        Event empty = Event.builder().id(2).basePrice(0).eventStatus(null).build();
+        Link[] links = {
+                Link.of("http://localhost:8080/api/events/1/a b"),
+                Link.of("/docs/index.html#resources-events-get", "profile"),
+                Link.of("http://localhost:8080/api/events/1", "update-event"),
+                Link.of("http://localhost:8080/api/events/1", "update-event").withTitle("again"),
+                Link.of("http://localhost:8080/api/events{?page}", "templated")
+        };
+
+        for (Event event : List.of(full, empty)) {
+            // When
+            String expected = objectMapper.writeValueAsString(EntityModel.of(event, links).add(EventLinks.self(event)));
+            String actual = objectMapper.writeValueAsString(new EventResource(event, links));
+
+            // Then
+            assertThat(actual).isEqualTo(expected);
+        }
+    }
+
+    @DisplayName("이벤트 페이지도 같은 바이트로 쓴다")
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    public void sameBytesAsPagedEntityModels(boolean indent) throws Exception {
+        // Given
+        ObjectMapper objectMapper = this.halObjectMapper.copy().configure(SerializationFeature.INDENT_OUTPUT, indent);
+        List<Event> events = List.of(event(1, "강남", null), event(2, null, Account.builder().id(3).build()));
+        PagedModel.PageMetadata metadata = new PagedModel.PageMetadata(2, 0, 10);
+        Link self = Link.of("http://localhost:8080/api/events?page=0&size=2");
+
+        // When
+        String expected = objectMapper.writeValueAsString(PagedModel.of(
+                List.of(EntityModel.of(events.get(0), EventLinks.self(events.get(0))), EntityModel.of(events.get(1), EventLinks.self(events.get(1)))),
+                metadata, self));
+        String actual = objectMapper.writeValueAsString(PagedModel.of(
+                List.of(new EventResource(events.get(0)), new EventResource(events.get(1))), metadata, self));
+
+        // Then
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    private static Event event(int id, String location, Account manager) {
+        Event event = Event.builder()
+                .id(id)
+                .version(3L)
+                .name("event " + id)
+                .description("test\nevent")
+                .beginEnrollmentDateTime(LocalDateTime.of(2022, 10, 25, 0, 0))
+                .closeEnrollmentDateTime(LocalDateTime.of(2022, 10, 25, 23, 59, 30))
+                .beginEventDateTime(LocalDateTime.of(2022, 10, 26, 14, 51, 0, 123_000_000))
+                .endEventDateTime(LocalDateTime.of(2022, 10, 26, 15, 0))
+                .basePrice(100)
+                .maxPrice(200)
+                .limitOfEnrollment(200)
+                .location(location)
+                .eventStatus(EventStatus.PUBLISHED)
+                .manager(manager)
+                .build();
+        event.update();
+        return event;
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.demoinflearnrestapi.events;
+
+import com.example.demoinflearnrestapi.common.BaseTest;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EventStatusSchedulerTest extends BaseTest {
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    EventStatusScheduler eventStatusScheduler;
+
+    @Autowired
+    EventIndexes eventIndexes;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    public void setUp() {
+        this.eventRepository.deleteAll();
+    }
+
+    @DisplayName("날짜가 지난 이벤트의 상태를 상태마다 한 번의 UPDATE로 바꾼다")
+    @Test
+    public void advance() {
+        // Given
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            events.add(buildEvent(i, EventStatus.PUBLISHED));
+        }
+        events.add(buildEvent(100, EventStatus.DRAFT));
+        events.add(buildEvent(101, EventStatus.CLOSED_ENROLLMENT));
+        List<Event> saved = this.eventRepository.saveAll(events);
+        this.eventStatusScheduler.index(saved);
+        Statistics statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // When
+        assertThat(this.eventStatusScheduler.advance(LocalDateTime.of(2022, 10, 24, 0, 0))).isZero();
+        statistics.clear();
+        int changed = this.eventStatusScheduler.advance(LocalDateTime.of(2022, 10, 26, 0, 0));
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(EventStatusScheduler.Transition.values().length);
+        assertThat(changed).isEqualTo(200);
+        Event published = this.eventRepository.findById(saved.get(0).getId()).orElseThrow();
+        assertThat(published.getEventStatus()).isEqualTo(EventStatus.CLOSED_ENROLLMENT);
+        assertThat(published.getVersion()).isEqualTo(saved.get(0).getVersion() + 2);
+        assertThat(this.eventRepository.findById(saved.get(100).getId()).orElseThrow().getEventStatus()).isEqualTo(EventStatus.DRAFT);
+        assertThat(this.eventRepository.findById(saved.get(101).getId()).orElseThrow().getEventStatus()).isEqualTo(EventStatus.CLOSED_ENROLLMENT);
+
+        assertThat(this.eventStatusScheduler.advance(LocalDateTime.of(2022, 10, 27, 0, 0))).isEqualTo(202);
+        assertThat(this.eventRepository.findById(saved.get(0).getId()).orElseThrow().getEventStatus()).isEqualTo(EventStatus.ENDED);
+        assertThat(this.eventStatusScheduler.advance(LocalDateTime.of(2022, 10, 28, 0, 0))).isZero();
+    }
+
+    @DisplayName("등록 시작일이 지난 뒤에 공개한 초안 이벤트는 다시 색인하면 다음 확인 때 상태를 바꾼다")
+    @Test
+    public void advancePublishedAfterEnrollmentBegan() {
+        // Given
+        Event draft = this.eventRepository.save(buildEvent(0, EventStatus.DRAFT));
+        this.eventIndexes.index(List.of(draft));
+        assertThat(this.eventStatusScheduler.advance(LocalDateTime.of(2022, 10, 25, 6, 0))).isZero();
+
+        // When
+        draft.setEventStatus(EventStatus.PUBLISHED);
+        Event published = this.eventRepository.save(draft);
+        this.eventIndexes.index(List.of(published));
+        int changed = this.eventStatusScheduler.advance(LocalDateTime.of(2022, 10, 25, 12, 0));
+
+        // Then
+        assertThat(changed).isEqualTo(1);
+        assertThat(this.eventRepository.findById(draft.getId()).orElseThrow().getEventStatus()).isEqualTo(EventStatus.BEGAN_ENROLLMENT);
+    }
+
+    @DisplayName("버전이 없던 이벤트도 상태를 바꾸면 버전이 생긴다")
+    @Test
+    public void advanceSetsMissingVersion() {
+        // Given
+        Event event = this.eventRepository.save(buildEvent(0, EventStatus.PUBLISHED));
+        this.transactionTemplate.executeWithoutResult(status -> this.entityManager
+                .createNativeQuery("update event set version = null where id = :id")
+                .setParameter("id", event.getId())
+                .executeUpdate());
+        this.eventStatusScheduler.index(List.of(event));
+
+        // When
+        int changed = this.eventStatusScheduler.advance(LocalDateTime.of(2022, 10, 25, 12, 0));
+
+        // Then
+        assertThat(changed).isEqualTo(1);
+        assertThat(this.eventRepository.findById(event.getId()).orElseThrow().getVersion()).isNotNull();
+    }
+
+    private Event buildEvent(int i, EventStatus eventStatus) {
+        return Event.builder()
+                .name("event " + i)
+                .description("test event")
+                .beginEnrollmentDateTime(LocalDateTime.of(2022, 10, 25, 0, 0))
+                .closeEnrollmentDateTime(LocalDateTime.of(2022, 10, 25, 23, 59))
+                .beginEventDateTime(LocalDateTime.of(2022, 10, 26, 14, 51))
+                .endEventDateTime(LocalDateTime.of(2022, 10, 26, 15, 0))
+                .limitOfEnrollment(200)
+                .eventStatus(eventStatus)
+                .build();
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.demoinflearnrestapi.events;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InvertedEventIndexTest {
+
+    @DisplayName("모든 검색어를 포함한 이벤트를 이름에 담긴 것부터 찾는다")
+    @Test
+    public void searchRanksNameAboveDescription() {
+        // Given
+        InvertedEventIndex index = new InvertedEventIndex();
+        index.index(List.of(
+                event(1, "JPA 스터디", "Spring Data와 Hibernate"),
+                event(2, "Spring 스터디", "REST API 만들기"),
+                event(3, "Kotlin 밋업", "Spring 없이 서버 만들기"),
+                event(4, "Spring 세미나", "Spring REST Docs")
+        ));
+
+        // When & Then
+        assertThat(index.search("spring", 10)).containsExactly(4, 2, 1, 3);
+        assertThat(index.search("Spring, 스터디!", 10)).containsExactly(2, 1);
+        assertThat(index.search("rest spr", 10)).containsExactly(4, 2);
+        assertThat(index.search("spring", 2)).containsExactly(4, 2);
+        assertThat(index.search("django", 10)).isEmpty();
+        assertThat(index.search("  ", 10)).isEmpty();
+    }
+
+    @DisplayName("마지막 검색어는 접두사로도 찾는다")
+    @Test
+    public void searchLastTermAsPrefix() {
+        // Given
+        InvertedEventIndex index = new InvertedEventIndex();
+        index.index(List.of(
+                event(1, "Spring Boot", null),
+                event(2, "Springfield 여행", null),
+                event(3, "Boot camp", null)
+        ));
+
+        // When & Then
+        assertThat(index.search("spr", 10)).containsExactlyInAnyOrder(1, 2);
+        assertThat(index.search("boot spr", 10)).containsExactly(1);
+        assertThat(index.search("boo", 10)).containsExactlyInAnyOrder(1, 3);
+        assertThat(index.search("spring", 10)).containsExactlyInAnyOrder(1, 2);
+    }
+
+    @DisplayName("다시 색인하면 이전 내용으로는 찾지 않는다")
+    @Test
+    public void reindexReplacesPreviousTerms() {
+        // Given
+        InvertedEventIndex index = new InvertedEventIndex();
+        index.index(List.of(event(1, "Spring 스터디", "첫 모임")));
+        index.index(List.of(event(2, "Spring 세미나", null)));
+
+        // When
+        index.index(List.of(event(1, "JPA 스터디", "두 번째 모임")));
+        index.remove(2);
+
+        // Then
+        assertThat(index.search("spring", 10)).isEmpty();
+        assertThat(index.search("첫", 10)).isEmpty();
+        assertThat(index.search("jpa 모임", 10)).containsExactly(1);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    private static Event event(int id, String name, String description) {
+        return Event.builder()
+                .id(id)
+                .name(name)
+                .description(description)
+                .build();
+    }
+}